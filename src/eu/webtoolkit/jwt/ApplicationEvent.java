@@ -22,17 +22,27 @@ class ApplicationEvent {
   private static Logger logger = LoggerFactory.getLogger(ApplicationEvent.class);
 
   public ApplicationEvent(
-      final String aSessionId, final Runnable aFunction, final Runnable aFallbackFunction) {
+      final String aSessionId,
+      final String aKey,
+      final Runnable aFunction,
+      final Runnable aFallbackFunction) {
     this.sessionId = aSessionId;
+    this.key = aKey;
     this.function = aFunction;
     this.fallbackFunction = aFallbackFunction;
   }
 
+  public ApplicationEvent(
+      final String aSessionId, final Runnable aFunction, final Runnable aFallbackFunction) {
+    this(aSessionId, (String) null, aFunction, aFallbackFunction);
+  }
+
   public ApplicationEvent(final String aSessionId, final Runnable aFunction) {
     this(aSessionId, aFunction, (Runnable) null);
   }
 
   public String sessionId;
+  public String key;
   public Runnable function;
   public Runnable fallbackFunction;
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Registry of the broadcast topics of a {@link WtServlet}, and the sessions which subscribed
+ * to them.
+ * <p>
+ * Subscribing and unsubscribing is atomic per topic, and a topic is removed as soon as it has
+ * no subscribers left. Listing the subscribers of a topic is weakly consistent, like
+ * {@link SessionRegistry#getSessions()}.
+ */
+class BroadcastRegistry {
+	private final ConcurrentMap<BroadcastTopic<?>, ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>> topics
+		= new ConcurrentHashMap<BroadcastTopic<?>, ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>>();
+
+	/**
+	 * Adds a listener of a session to a topic.
+	 * <p>
+	 * The listener is stored as a listener of objects: this is safe since only payloads of the
+	 * topic's type can be published to it.
+	 */
+	<T> void subscribe(BroadcastTopic<T> topic, final WebSession session, final Signal1.Listener<? super T> listener) {
+		topics.compute(topic, new BiFunction<BroadcastTopic<?>, ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>,
+				ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> apply(BroadcastTopic<?> key,
+					ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> subscribers) {
+				if (subscribers == null)
+					subscribers = new ConcurrentHashMap<WebSession, List<Signal1.Listener<Object>>>();
+
+				List<Signal1.Listener<Object>> listeners = subscribers.get(session);
+				if (listeners == null) {
+					listeners = new CopyOnWriteArrayList<Signal1.Listener<Object>>();
+					subscribers.put(session, listeners);
+				}
+
+				listeners.add((Signal1.Listener<Object>) listener);
+				return subscribers;
+			}
+		});
+	}
+
+	/**
+	 * Removes the listeners of a session from a topic.
+	 */
+	void unsubscribe(BroadcastTopic<?> topic, final WebSession session) {
+		topics.computeIfPresent(topic, new BiFunction<BroadcastTopic<?>, ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>,
+				ConcurrentMap<WebSession, List<Signal1.Listener<Object>>>>() {
+			@Override
+			public ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> apply(BroadcastTopic<?> key,
+					ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> subscribers) {
+				subscribers.remove(session);
+				return subscribers.isEmpty() ? null : subscribers;
+			}
+		});
+	}
+
+	/**
+	 * Removes the listeners of a session from all topics.
+	 */
+	void remove(WebSession session) {
+		for (BroadcastTopic<?> topic : topics.keySet())
+			unsubscribe(topic, session);
+	}
+
+	/**
+	 * Returns the sessions which subscribed to a topic.
+	 */
+	Collection<WebSession> getSubscribers(BroadcastTopic<?> topic) {
+		ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> subscribers = topics.get(topic);
+		if (subscribers == null)
+			return Collections.emptySet();
+		else
+			return subscribers.keySet();
+	}
+
+	/**
+	 * Returns the listeners of a session for a topic.
+	 */
+	List<Signal1.Listener<Object>> getListeners(BroadcastTopic<?> topic, WebSession session) {
+		ConcurrentMap<WebSession, List<Signal1.Listener<Object>>> subscribers = topics.get(topic);
+		List<Signal1.Listener<Object>> result = subscribers != null ? subscribers.get(session) : null;
+		if (result == null)
+			return Collections.emptyList();
+		else
+			return result;
+	}
+}
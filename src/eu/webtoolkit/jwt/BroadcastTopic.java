@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+/**
+ * A broadcast topic, with the type of the payloads that are published to it.
+ * <p>
+ * A topic is identified by the instance, not by its name: the publisher and the subscribers
+ * should share the same instance, usually a constant:
+ * <pre>
+ * {@code
+ * static final BroadcastTopic<Price> PRICES = new BroadcastTopic<Price>("prices");
+ * }
+ * </pre>
+ * This way, the payload type of a listener always matches the payloads which are published.
+ *
+ * @see WtServlet#subscribe(WApplication, BroadcastTopic, Signal1.Listener)
+ * @see WtServlet#publish(BroadcastTopic, Object)
+ */
+public final class BroadcastTopic<T> {
+	private final String name;
+
+	/**
+	 * Creates a topic.
+	 *
+	 * @param name the name of the topic, used for logging
+	 */
+	public BroadcastTopic(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name of the topic.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.net.Inet4Address;
@@ -27,6 +28,8 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
+import eu.webtoolkit.jwt.utils.ThreadUtils;
+
 /**
  * JWt application configuration class.
  * <p>
@@ -64,6 +67,31 @@ public class Configuration {
 		ErrorMessageWithStack
 	}
 
+	/**
+	 * An enumeration for what happens when an event is posted to a session whose event queue is full.
+	 * 
+	 * @see Configuration#setEventQueueSize(int)
+	 * @see WtServlet#post(WApplication, Runnable, Runnable)
+	 */
+	public enum EventQueueOverflow {
+		/**
+		 * The oldest pending event is discarded to make room for the new event.
+		 */
+		DropOldest,
+
+		/**
+		 * An event posted with a key replaces a pending event that was posted with the same key,
+		 * keeping its position in the queue. Otherwise, when the queue is full, the oldest pending
+		 * event is discarded.
+		 */
+		Coalesce,
+
+		/**
+		 * The new event is rejected.
+		 */
+		Reject
+	}
+
 	/**
 	 * A class describing an IPv4 or IPv6 network
 	 */
@@ -165,6 +193,9 @@ public class Configuration {
 	private ArrayList<String> botList = new ArrayList<String>();
 	private ArrayList<String> ajaxAgentList = new ArrayList<String>();
 	private boolean ajaxAgentWhiteList = false;
+	private int userAgentCacheSize = 1024;
+	private volatile UserAgentMatcher botMatcher;
+	private volatile UserAgentMatcher ajaxAgentMatcher;
 	private ErrorReporting errorReporting = ErrorReporting.ErrorMessage;
 
 	private String favicon = "/favicon.ico";
@@ -172,6 +203,7 @@ public class Configuration {
 	
 	private int sessionTimeout = 600;
 	private int idleTimeout = -1;
+	private int idleCacheReleaseTimeout = -1;
 	private int indicatorTimeout = 500;
 	private int doubleClickTimeout = 200;
 	private int bootstrapTimeout = 10;
@@ -182,11 +214,28 @@ public class Configuration {
 	private long maxRequestSize = 1024*1024; // 1 Megabyte
 	private long maxFormDataSize = 1024*1024; // 1 Megabyte
 	private int maxPendingEvents = 1000;
+	private int eventQueueSize = 10000;
+	private EventQueueOverflow eventQueueOverflow = EventQueueOverflow.Reject;
+	private Executor postExecutor = null;
 	private boolean behindReverseProxy = false;
 	private String originalIPHeader = "X-Forwarded-For";
 	private List<Network> trustedProxies = Collections.emptyList();
 	private boolean webSocketsEnabled = false;
+	private int webSocketHighWaterMark = 256 * 1024;
+	private int serverPushInterval = 0;
+	private int serverPushMaxLatency = 1000;
+	private int maxPingInterval = -1;
 	private long asyncContextTimeout = 90000;
+	private Executor requestExecutor = null;
+	private Metrics metrics = Metrics.NONE;
+	private WPageCache pageCache = null;
+	private boolean streamedRendering = false;
+	private boolean versionedResources = false;
+	private int compressionThreshold = -1;
+	private boolean warmUpEnabled = false;
+	private List<EntryPointType> warmUpEntryPoints = Collections.singletonList(EntryPointType.Application);
+	private List<String> warmUpInternalPaths = Collections.singletonList("");
+	private List<String> preloadedBundles = Collections.emptyList();
 
 	private Collection<String> allowedOrigins_ = Collections.<String>emptySet();
 
@@ -204,6 +253,8 @@ public class Configuration {
 		botList.add(".ia_archiver.*");
 		botList.add(".*Googlebot.*");
 		botList.add(".*Twiceler.*");
+
+		compileUserAgentMatchers();
 	}
 
 	/**
@@ -265,6 +316,33 @@ public class Configuration {
 						setRedirectMessage(node.getTextContent().trim());
 					} else if (node.getNodeName().equalsIgnoreCase("inline-css")) {
 						setInlineCss(parseBoolean(errorMessage, node));
+					} else if (node.getNodeName().equalsIgnoreCase("virtual-threads")) {
+						setVirtualThreadsEnabled(parseBoolean(errorMessage, node));
+					} else if (node.getNodeName().equalsIgnoreCase("warm-up")) {
+						setWarmUpEnabled(parseBoolean(errorMessage, node));
+					} else if (node.getNodeName().equalsIgnoreCase("warm-up-entry-points")) {
+						List<EntryPointType> types = new ArrayList<EntryPointType>();
+						for (String type : parseList(node))
+							types.add(EntryPointType.valueOf(type));
+						setWarmUpEntryPoints(types);
+					} else if (node.getNodeName().equalsIgnoreCase("warm-up-internal-paths")) {
+						setWarmUpInternalPaths(parseList(node));
+					} else if (node.getNodeName().equalsIgnoreCase("preload-bundles")) {
+						setPreloadedBundles(parseList(node));
+					} else if (node.getNodeName().equalsIgnoreCase("versioned-resources")) {
+						setVersionedResources(parseBoolean(errorMessage, node));
+					} else if (node.getNodeName().equalsIgnoreCase("streamed-rendering")) {
+						setStreamedRendering(parseBoolean(errorMessage, node));
+					} else if (node.getNodeName().equalsIgnoreCase("web-socket-high-water-mark")) {
+						setWebSocketHighWaterMark(Integer.parseInt(node.getTextContent().trim()));
+					} else if (node.getNodeName().equalsIgnoreCase("server-push-interval")) {
+						setServerPushInterval(Integer.parseInt(node.getTextContent().trim()));
+					} else if (node.getNodeName().equalsIgnoreCase("server-push-max-latency")) {
+						setServerPushMaxLatency(Integer.parseInt(node.getTextContent().trim()));
+					} else if (node.getNodeName().equalsIgnoreCase("max-ping-interval")) {
+						setMaxPingInterval(Integer.parseInt(node.getTextContent().trim()));
+					} else if (node.getNodeName().equalsIgnoreCase("compression-threshold")) {
+						setCompressionThreshold(Integer.parseInt(node.getTextContent().trim()));
 					} else if (node.getNodeName().equalsIgnoreCase("favicon")) {
 						setFavicon(node.getTextContent().trim());
 					} else if (node.getNodeName().equalsIgnoreCase("user-agents")) {
@@ -298,6 +376,8 @@ public class Configuration {
 				}
 			}
 		}
+
+		compileUserAgentMatchers();
 	}
 
 	private void parseUserAgents(String errorMessage, Node node, List<String> list) {
@@ -311,6 +391,13 @@ public class Configuration {
 		}
 	}
 
+	private List<String> parseList(Node node) {
+		List<String> result = new ArrayList<String>();
+		for (String value : node.getTextContent().split(","))
+			result.add(value.trim());
+		return result;
+	}
+
 	private boolean parseBoolean(String errorMessage, Node n) {
 		try {
 			return Boolean.parseBoolean(n.getTextContent().trim());
@@ -447,6 +534,79 @@ public class Configuration {
 		return 50;
 	}
 
+	/**
+	 * Sets the maximum interval between keep-alive pings over a web socket.
+	 * <p>
+	 * A client which is connected using a web socket pings the server at a regular interval,
+	 * to keep the connection open. These pings are answered without taking the session lock.
+	 * For a session which has been idle for a while, the interval is raised up to this value (in
+	 * seconds), which reduces the heartbeat traffic of deployments with many idle sessions.
+	 * <p>
+	 * Proxies and load balancers often close a connection which has been idle for a minute, so
+	 * make sure that this is supported by the network between clients and the servlet.
+	 * <p>
+	 * The default value is -1, which keeps the interval fixed.
+	 */
+	public void setMaxPingInterval(int interval) {
+		this.maxPingInterval = interval;
+	}
+
+	/**
+	 * Returns the maximum interval between keep-alive pings over a web socket.
+	 *
+	 * @see #setMaxPingInterval(int)
+	 */
+	public int getMaxPingInterval() {
+		return Math.max(maxPingInterval, getServerPushTimeout());
+	}
+
+	/**
+	 * Sets the minimum interval between server push updates of a session.
+	 * <p>
+	 * When {@link WApplication#triggerUpdate()} is called within this interval (in milliseconds)
+	 * after the previous update was pushed, the update is delayed until the interval has passed,
+	 * and all changes made in the mean time are pushed together. This limits the rendering and
+	 * traffic for applications which trigger updates at a high rate.
+	 * <p>
+	 * The default value is 0, which pushes every update immediately.
+	 *
+	 * @see #setServerPushMaxLatency(int)
+	 */
+	public void setServerPushInterval(int interval) {
+		this.serverPushInterval = interval;
+	}
+
+	/**
+	 * Returns the minimum interval between server push updates of a session.
+	 *
+	 * @see #setServerPushInterval(int)
+	 */
+	public int getServerPushInterval() {
+		return serverPushInterval;
+	}
+
+	/**
+	 * Sets the maximum latency of a server push update.
+	 * <p>
+	 * An update is delayed while the session has pending requests, since these will render the
+	 * changes as well, or because of the {@link #setServerPushInterval(int) push interval}. It is
+	 * however pushed at the latest after this time (in milliseconds) since it was triggered.
+	 * <p>
+	 * The default value is 1000.
+	 */
+	public void setServerPushMaxLatency(int latency) {
+		this.serverPushMaxLatency = latency;
+	}
+
+	/**
+	 * Returns the maximum latency of a server push update.
+	 *
+	 * @see #setServerPushMaxLatency(int)
+	 */
+	public int getServerPushMaxLatency() {
+		return serverPushMaxLatency;
+	}
+
 	/**
 	 * Sets whether inline CSS may be generated.
 	 * <p>
@@ -497,12 +657,16 @@ public class Configuration {
 	public void setAjaxAgentList(ArrayList<String> ajaxAgentList, boolean isWhiteList) {
 		this.ajaxAgentList = ajaxAgentList;
 		this.ajaxAgentWhiteList = isWhiteList;
+		this.ajaxAgentMatcher = new UserAgentMatcher(ajaxAgentList, userAgentCacheSize);
 	}
 
 	/**
 	 * Returns the list of user agents that are (not) considered for AJAX sessions.
 	 * <p>
 	 * Depending on the value of {@link #isAjaxAgentWhiteList()}, the list is a white-list or a black-list.
+	 * <p>
+	 * The regular expressions are compiled by {@link #setAjaxAgentList(ArrayList, boolean)}: changes to the
+	 * returned list take effect only when it is passed to that method again.
 	 *
 	 * @return the list of user agents that are (not) considered for AJAX sessions.
 	 * 
@@ -534,14 +698,7 @@ public class Configuration {
 	 * @see #setAjaxAgentList(ArrayList, boolean)
 	 */
 	public boolean agentSupportsAjax(String userAgent) {
-		boolean inList = false;
-		
-		for (String regex : ajaxAgentList) {
-			if (userAgent.matches(regex)) {
-				inList = true;
-				break;
-			}
-		}
+		boolean inList = ajaxAgentMatcher.matches(userAgent);
 		
 		if (ajaxAgentWhiteList)
 			return inList;
@@ -580,10 +737,14 @@ public class Configuration {
 	 */
 	public void setBotList(ArrayList<String> botList) {
 		this.botList = botList;
+		this.botMatcher = new UserAgentMatcher(botList, userAgentCacheSize);
 	}
 
 	/**
 	 * Returns the list of user agents that are treated as bots.
+	 * <p>
+	 * The regular expressions are compiled by {@link #setBotList(ArrayList)}: changes to the returned list
+	 * take effect only when it is passed to that method again.
 	 * 
 	 * @return the list of user agents that are treated as bots.
 	 * 
@@ -599,12 +760,52 @@ public class Configuration {
 	 * @see #setBotList(ArrayList)
 	 */
 	public boolean agentIsBot(String userAgent) {
-		for (String regex : botList) {
-			if (userAgent.matches(regex))
-				return true;
-		}
-		
-		return false;
+		return botMatcher.matches(userAgent);
+	}
+
+	/**
+	 * Sets the size of the user agent classification cache.
+	 * <p>
+	 * The outcome of {@link #agentIsBot(String)} and {@link #agentSupportsAjax(String)} is cached
+	 * for this number of most recently seen user agents, each.
+	 * <p>
+	 * The default value is 1024.
+	 */
+	public void setUserAgentCacheSize(int size) {
+		this.userAgentCacheSize = size;
+		compileUserAgentMatchers();
+	}
+
+	/**
+	 * Returns the size of the user agent classification cache.
+	 * 
+	 * @see #setUserAgentCacheSize(int)
+	 */
+	public int getUserAgentCacheSize() {
+		return userAgentCacheSize;
+	}
+
+	/**
+	 * Returns the number of user agent classifications that were served from the cache.
+	 * 
+	 * @see #setUserAgentCacheSize(int)
+	 */
+	public long getUserAgentCacheHits() {
+		return botMatcher.getHits() + ajaxAgentMatcher.getHits();
+	}
+
+	/**
+	 * Returns the number of user agent classifications that required matching the regular expressions.
+	 * 
+	 * @see #setUserAgentCacheSize(int)
+	 */
+	public long getUserAgentCacheMisses() {
+		return botMatcher.getMisses() + ajaxAgentMatcher.getMisses();
+	}
+
+	private void compileUserAgentMatchers() {
+		this.botMatcher = new UserAgentMatcher(botList, userAgentCacheSize);
+		this.ajaxAgentMatcher = new UserAgentMatcher(ajaxAgentList, userAgentCacheSize);
 	}
 	
 	/**
@@ -731,6 +932,130 @@ public class Configuration {
 		this.idleTimeout = timeout;
 	}
 	
+	/**
+	 * Returns the idle cache release timeout (in seconds).
+	 *
+	 * @return the idle cache release timeout.
+	 *
+	 * @see #setIdleCacheReleaseTimeout(int)
+	 */
+	public int getIdleCacheReleaseTimeout() {
+		return idleCacheReleaseTimeout;
+	}
+
+	/**
+	 * Sets the idle cache release timeout.
+	 *
+	 * When a session does not receive any request or web socket message for the set number of
+	 * seconds, JWt releases the caches of the session which are rebuilt on the next request (the
+	 * message resource bundles parsed by the session and empty rendering buffers), and calls
+	 * WApplication#releaseIdleCaches() to let the application do the same.
+	 *
+	 * This only releases caches: the widget tree and the application state remain in memory
+	 * until the session expires.
+	 *
+	 * This should be shorter than the session timeout to be useful.
+	 *
+	 * The default is -1 (disabled)
+	 */
+	public void setIdleCacheReleaseTimeout(int timeout) {
+		this.idleCacheReleaseTimeout = timeout;
+	}
+
+	/**
+	 * Enables or disables the warm-up of the servlet.
+	 *
+	 * When enabled, WtServlet#init() renders a synthetic session for every combination of the
+	 * configured warm-up entry points and internal paths, and preloads the configured message
+	 * resource bundles, before the servlet serves its first request. This moves the cost of
+	 * class loading, parsing of templates and bundles, and compilation of the rendering code
+	 * paths away from the first user of a freshly started node.
+	 *
+	 * Note that this calls WtServlet#createApplication(WEnvironment) with a WTestEnvironment.
+	 *
+	 * The default is false (disabled)
+	 *
+	 * @see #setWarmUpEntryPoints(List)
+	 * @see #setWarmUpInternalPaths(List)
+	 * @see #setPreloadedBundles(List)
+	 */
+	public void setWarmUpEnabled(boolean enabled) {
+		this.warmUpEnabled = enabled;
+	}
+
+	/**
+	 * Returns whether the warm-up of the servlet is enabled.
+	 *
+	 * @see #setWarmUpEnabled(boolean)
+	 */
+	public boolean isWarmUpEnabled() {
+		return warmUpEnabled;
+	}
+
+	/**
+	 * Sets the entry point types for which a session is rendered during the warm-up.
+	 *
+	 * The default is EntryPointType#Application only.
+	 *
+	 * @see #setWarmUpEnabled(boolean)
+	 */
+	public void setWarmUpEntryPoints(List<EntryPointType> types) {
+		this.warmUpEntryPoints = types;
+	}
+
+	/**
+	 * Returns the entry point types for which a session is rendered during the warm-up.
+	 *
+	 * @see #setWarmUpEntryPoints(List)
+	 */
+	public List<EntryPointType> getWarmUpEntryPoints() {
+		return warmUpEntryPoints;
+	}
+
+	/**
+	 * Sets the internal paths for which a session is rendered during the warm-up.
+	 *
+	 * The default is the empty internal path only.
+	 *
+	 * @see #setWarmUpEnabled(boolean)
+	 */
+	public void setWarmUpInternalPaths(List<String> internalPaths) {
+		this.warmUpInternalPaths = internalPaths;
+	}
+
+	/**
+	 * Returns the internal paths for which a session is rendered during the warm-up.
+	 *
+	 * @see #setWarmUpInternalPaths(List)
+	 */
+	public List<String> getWarmUpInternalPaths() {
+		return warmUpInternalPaths;
+	}
+
+	/**
+	 * Sets the message resource bundles that are preloaded during the warm-up.
+	 *
+	 * Preloaded bundles are parsed once and shared by all sessions that use them
+	 * (see WXmlLocalizedStrings#preload(String, Locale)). The built-in JWt bundle
+	 * is always preloaded.
+	 *
+	 * The default is an empty list.
+	 *
+	 * @see #setWarmUpEnabled(boolean)
+	 */
+	public void setPreloadedBundles(List<String> bundleNames) {
+		this.preloadedBundles = bundleNames;
+	}
+
+	/**
+	 * Returns the message resource bundles that are preloaded during the warm-up.
+	 *
+	 * @see #setPreloadedBundles(List)
+	 */
+	public List<String> getPreloadedBundles() {
+		return preloadedBundles;
+	}
+
 	/**
 	 * Sets the maximum request size (in bytes).
 	 * 
@@ -854,6 +1179,31 @@ public class Configuration {
 		return webSocketsEnabled;
 	}
 
+	/**
+	 * Sets the high-water mark for messages queued on a web socket.
+	 * <p>
+	 * Messages are sent asynchronously over a web socket, one at a time. When the messages
+	 * which are waiting behind the message in flight for a slow client reach this size (in
+	 * characters), new messages are merged with the last waiting message, and server push
+	 * updates are deferred until the queue has drained. When the waiting messages grow beyond
+	 * twice this size, the connection is dropped. A single message is always accepted,
+	 * however large it is.
+	 * <p>
+	 * The default value is 256 kB.
+	 */
+	public void setWebSocketHighWaterMark(int size) {
+		this.webSocketHighWaterMark = size;
+	}
+
+	/**
+	 * Returns the high-water mark for messages queued on a web socket.
+	 *
+	 * @see #setWebSocketHighWaterMark(int)
+	 */
+	public int getWebSocketHighWaterMark() {
+		return webSocketHighWaterMark;
+	}
+
 	/*
 	 * The following are not yet enabled for JWt
 	 */
@@ -894,6 +1244,76 @@ public class Configuration {
 		this.maxPendingEvents = maxPendingEvents;
 	}
 
+	/**
+	 * Sets the maximum number of events that may be queued for a session.
+	 * <p>
+	 * Events are queued by {@link WtServlet#post(WApplication, Runnable, Runnable)} and
+	 * {@link WtServlet#postAll(Runnable)}, and are run when the session lock becomes available. When
+	 * the queue is full, the {@link #setEventQueueOverflow(EventQueueOverflow) overflow policy} applies.
+	 * <p>
+	 * A value that is not positive means the queue is unbounded. The default value is 10000.
+	 * <p>
+	 * This only applies to sessions created after this is changed.
+	 */
+	public void setEventQueueSize(int size) {
+		this.eventQueueSize = size;
+	}
+
+	/**
+	 * Returns the maximum number of events that may be queued for a session.
+	 * 
+	 * @see #setEventQueueSize(int)
+	 */
+	public int getEventQueueSize() {
+		return eventQueueSize;
+	}
+
+	/**
+	 * Sets the policy for events posted to a session with a full event queue.
+	 * <p>
+	 * The default policy is {@link EventQueueOverflow#Reject}.
+	 * <p>
+	 * The fallback function of an event that is rejected or dropped is run on the
+	 * {@link #setPostExecutor(Executor) post executor}, without a session lock. With
+	 * {@link EventQueueOverflow#DropOldest}, the dropped event may have been posted by another
+	 * thread than the one that posted the new event.
+	 * 
+	 * @see #setEventQueueSize(int)
+	 */
+	public void setEventQueueOverflow(EventQueueOverflow overflow) {
+		this.eventQueueOverflow = overflow;
+	}
+
+	/**
+	 * Returns the policy for events posted to a session with a full event queue.
+	 * 
+	 * @see #setEventQueueOverflow(EventQueueOverflow)
+	 */
+	public EventQueueOverflow getEventQueueOverflow() {
+		return eventQueueOverflow;
+	}
+
+	/**
+	 * Sets the executor that delivers events posted to all sessions.
+	 * <p>
+	 * {@link WtServlet#postAll(Runnable)} queues the event on every session, and then delivers the
+	 * events to batches of sessions on this executor.
+	 * <p>
+	 * By default (<code>null</code>), a pool with one daemon thread per available processor is used.
+	 */
+	public void setPostExecutor(Executor executor) {
+		this.postExecutor = executor;
+	}
+
+	/**
+	 * Returns the executor that delivers events posted to all sessions.
+	 * 
+	 * @see #setPostExecutor(Executor)
+	 */
+	public Executor getPostExecutor() {
+		return postExecutor;
+	}
+
 	SessionTracking getSessionTracking() {
 		return SessionTracking.Auto;
 	}
@@ -1071,4 +1491,190 @@ public class Configuration {
 	public void setAsyncContextTimeout(long asyncContextTimeout) {
 		this.asyncContextTimeout = asyncContextTimeout;
 	}
+
+	/**
+	 * Sets the executor on which asynchronous requests are handled.
+	 * <p>
+	 * When the servlet container supports asynchronous processing, each request is handled
+	 * outside of the container thread that accepted it. By default (<code>null</code>), the
+	 * request is run using the container's own pool, through <code>AsyncContext.start()</code>.
+	 * <p>
+	 * Handling a request may block for a long time, e.g. waiting for the session lock or for
+	 * server push updates. Using an executor with many cheap threads (see
+	 * {@link #setVirtualThreadsEnabled(boolean)}) or a dedicated bounded pool avoids exhausting
+	 * the container's pool. When the executor rejects a request, a <code>503</code> response
+	 * is sent.
+	 * 
+	 * @param executor the executor, or <code>null</code> to use the servlet container's pool.
+	 * 
+	 * @see #getRequestExecutor()
+	 */
+	public void setRequestExecutor(Executor executor) {
+		this.requestExecutor = executor;
+	}
+
+	/**
+	 * Returns the executor on which asynchronous requests are handled.
+	 * 
+	 * @return the executor, or <code>null</code> if the servlet container's pool is used.
+	 * 
+	 * @see #setRequestExecutor(Executor)
+	 */
+	public Executor getRequestExecutor() {
+		return requestExecutor;
+	}
+
+	/**
+	 * Configures whether asynchronous requests are handled on virtual threads.
+	 * <p>
+	 * This is a convenience method that configures a {@link #setRequestExecutor(Executor) request executor}
+	 * which starts a new virtual thread for every request. Virtual threads require Java 21 or later:
+	 * on older runtimes, a warning is logged and the servlet container's pool is used.
+	 * <p>
+	 * Disabling this resets the request executor to the servlet container's pool.
+	 * <p>
+	 * Virtual threads are disabled by default.
+	 */
+	public void setVirtualThreadsEnabled(boolean enabled) {
+		if (enabled) {
+			Executor executor = ThreadUtils.newVirtualThreadExecutor();
+			if (executor == null)
+				logger.warn("Virtual threads are not supported by this JVM, using the servlet container's pool");
+			this.requestExecutor = executor;
+		} else
+			this.requestExecutor = null;
+	}
+
+	/**
+	 * Sets the size above which Ajax responses are compressed.
+	 * <p>
+	 * Update and script responses of at least this many characters are sent using gzip
+	 * content encoding, when the browser accepts it. Smaller responses are sent uncompressed,
+	 * since compressing them gains little.
+	 * <p>
+	 * WebSocket messages are not affected: these are compressed by the servlet container,
+	 * if it supports the <code>permessage-deflate</code> extension.
+	 * <p>
+	 * The default is -1 (disabled).
+	 */
+	public void setCompressionThreshold(int threshold) {
+		this.compressionThreshold = threshold;
+	}
+
+	/**
+	 * Returns the size above which Ajax responses are compressed.
+	 *
+	 * @see #setCompressionThreshold(int)
+	 */
+	public int getCompressionThreshold() {
+		return compressionThreshold;
+	}
+
+	/**
+	 * Sets the metrics to which the servlet reports.
+	 * <p>
+	 * The servlet reports session counts, session lock wait and hold times, render times and
+	 * response sizes, queued events and WebSocket messages. {@link WMetricsResource} collects
+	 * these in memory and serves them, but you may also adapt them to a metrics library of
+	 * your choice.
+	 * <p>
+	 * The default is {@link Metrics#NONE}.
+	 */
+	public void setMetrics(Metrics metrics) {
+		this.metrics = metrics != null ? metrics : Metrics.NONE;
+	}
+
+	/**
+	 * Returns the metrics to which the servlet reports.
+	 *
+	 * @see #setMetrics(Metrics)
+	 */
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Sets the cache of rendered pages for web crawlers.
+	 * <p>
+	 * When set, a page that is rendered for a web crawler is kept in the cache, and served
+	 * from the cache to subsequent requests for the same page, without creating an
+	 * application.
+	 * <p>
+	 * The default is <code>null</code> (no caching).
+	 *
+	 * @see WPageCache
+	 */
+	public void setPageCache(WPageCache pageCache) {
+		this.pageCache = pageCache;
+	}
+
+	/**
+	 * Returns the cache of rendered pages for web crawlers.
+	 *
+	 * @see #setPageCache(WPageCache)
+	 */
+	public WPageCache getPageCache() {
+		return pageCache;
+	}
+
+	/**
+	 * Sets whether pages are streamed while they are rendered.
+	 * <p>
+	 * When enabled, the head of a page is sent to the client before the widget tree is
+	 * rendered, so that the browser can already load style sheets and scripts, and the body
+	 * is then sent in chunks as it is being serialized.
+	 * The chunks are written and flushed by the request thread, which blocks while the client
+	 * receives them.
+	 * <p>
+	 * Style sheets, inline CSS rules and script libraries which are added while rendering are
+	 * included at the start of the body instead of in the head, and a title which is changed
+	 * while rendering is set using JavaScript. For that reason, pages are only streamed to
+	 * clients with Ajax support: pages for other clients and for bots are rendered completely
+	 * before they are sent, so that they carry the final title in the head.
+	 * <p>
+	 * Since the response is committed before the widget tree is rendered, the application can
+	 * no longer change the response status or headers while rendering, and an error while
+	 * rendering results in an incomplete page.
+	 * <p>
+	 * The default is <code>false</code>.
+	 *
+	 * @see WApplication#setTwoPhaseRenderingThreshold(int)
+	 */
+	public void setStreamedRendering(boolean enabled) {
+		this.streamedRendering = enabled;
+	}
+
+	/**
+	 * Returns whether pages are streamed while they are rendered.
+	 *
+	 * @see #setStreamedRendering(boolean)
+	 */
+	public boolean isStreamedRendering() {
+		return streamedRendering;
+	}
+
+	/**
+	 * Sets whether session independent scripts and style sheets are served from versioned URLs.
+	 * <p>
+	 * When enabled, the part of the JavaScript which does not depend on the session (including
+	 * jQuery) is loaded from a URL which contains a hash of its contents, and style sheets in
+	 * the resources folder (such as the theme style sheets) are linked with a version derived
+	 * from their contents. When served by the servlet, these are marked as immutable, so that
+	 * browsers and proxies cache them until they change. The script that is loaded for each
+	 * session then only contains the session specific part.
+	 * <p>
+	 * The default is <code>false</code>.
+	 */
+	public void setVersionedResources(boolean enabled) {
+		this.versionedResources = enabled;
+	}
+
+	/**
+	 * Returns whether session independent scripts and style sheets are served from versioned URLs.
+	 *
+	 * @see #setVersionedResources(boolean)
+	 */
+	public boolean isVersionedResources() {
+		return versionedResources;
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The set of widgets that need to be updated, bucketed by their depth in the widget tree.
+ * <p>
+ * The set is kept across updates by the {@link WebRenderer}: widgets are added when they
+ * schedule a rerender and removed when they are rendered, so that collecting the changes
+ * only visits the widgets that actually changed, in order of increasing depth.
+ * <p>
+ * Depth 0 is used for widgets that are not (or no longer) part of the widget tree of the
+ * application.
+ * <p>
+ * The depths are verified before the widgets are listed. Only the widgets which were added
+ * since the previous listing are verified, unless a widget was reparented in the meantime
+ * (see {@link #treeChanged()}). The depths of the ancestors found while verifying are cached,
+ * so that each ancestor is only visited once.
+ */
+class DirtyWidgetSet {
+	private final Map<WWidget, Integer> depths_ = new HashMap<WWidget, Integer>();
+	private final List<Set<WWidget>> buckets_ = new ArrayList<Set<WWidget>>();
+	private final List<WWidget> moved_ = new ArrayList<WWidget>();
+	private final List<WWidget> added_ = new ArrayList<WWidget>();
+	private final Map<WWidget, Integer> treeDepths_ = new HashMap<WWidget, Integer>();
+	private final List<WWidget> path_ = new ArrayList<WWidget>();
+	private boolean treeChanged_ = true;
+
+	/**
+	 * Adds a widget.
+	 * <p>
+	 * The depth is only a guess at this point, it is corrected by {@link #sorted(WWidget, WWidget, List)}.
+	 */
+	boolean add(WWidget w) {
+		if (depths_.containsKey(w))
+			return false;
+
+		int depth = 1;
+		for (WWidget p = w.getParent(); p != null; p = p.getParent())
+			++depth;
+
+		put(w, depth);
+		added_.add(w);
+		return true;
+	}
+
+	/**
+	 * Signals that a widget was reparented, which may change the depth of any widget in the set.
+	 */
+	void treeChanged() {
+		treeChanged_ = true;
+	}
+
+	boolean remove(WWidget w) {
+		Integer depth = depths_.remove(w);
+		if (depth == null)
+			return false;
+
+		buckets_.get(depth).remove(w);
+		return true;
+	}
+
+	boolean contains(WWidget w) {
+		return depths_.containsKey(w);
+	}
+
+	boolean isEmpty() {
+		return depths_.isEmpty();
+	}
+
+	int size() {
+		return depths_.size();
+	}
+
+	/**
+	 * Returns the depth of a widget in the set, or -1 if it is not in the set.
+	 */
+	int getDepth(WWidget w) {
+		Integer depth = depths_.get(w);
+		return depth == null ? -1 : depth;
+	}
+
+	/**
+	 * Lists the widgets, ordered by increasing depth.
+	 * <p>
+	 * The depth of a widget is first verified, since the widget may have been moved in the
+	 * widget tree after it was added. Widgets that are not a descendant of one of the given
+	 * roots are given depth 0.
+	 */
+	void sorted(WWidget root1, WWidget root2, List<WWidget> result) {
+		if (treeChanged_) {
+			for (int d = 0; d < buckets_.size(); ++d) {
+				for (WWidget w : buckets_.get(d)) {
+					if (depth(w, root1, root2) != d)
+						moved_.add(w);
+				}
+			}
+		} else {
+			for (int i = 0; i < added_.size(); ++i) {
+				WWidget w = added_.get(i);
+				Integer d = depths_.get(w);
+				if (d != null && depth(w, root1, root2) != d)
+					moved_.add(w);
+			}
+		}
+
+		for (int i = 0; i < moved_.size(); ++i) {
+			WWidget w = moved_.get(i);
+			remove(w);
+			put(w, depth(w, root1, root2));
+		}
+		moved_.clear();
+		added_.clear();
+		treeDepths_.clear();
+		treeChanged_ = false;
+
+		for (int d = 0; d < buckets_.size(); ++d)
+			result.addAll(buckets_.get(d));
+	}
+
+	/*
+	 * Computes the depth of a widget, walking up the tree until an ancestor of which the depth
+	 * is already known.
+	 */
+	private int depth(WWidget w, WWidget root1, WWidget root2) {
+		Integer known = null;
+		for (; w != null; w = w.getParent()) {
+			known = treeDepths_.get(w);
+			if (known != null)
+				break;
+			path_.add(w);
+		}
+
+		int depth;
+		if (known != null)
+			depth = known;
+		else {
+			WWidget top = path_.get(path_.size() - 1);
+			depth = top == root1 || top == root2 ? 1 : 0;
+			treeDepths_.put(top, depth);
+			path_.remove(path_.size() - 1);
+		}
+
+		for (int i = path_.size() - 1; i >= 0; --i) {
+			if (depth != 0)
+				++depth;
+			treeDepths_.put(path_.get(i), depth);
+		}
+		path_.clear();
+
+		return depth;
+	}
+
+	private void put(WWidget w, int depth) {
+		while (buckets_.size() <= depth)
+			buckets_.add(new LinkedHashSet<WWidget>());
+
+		buckets_.get(depth).add(w);
+		depths_.put(w, depth);
+	}
+}
@@ -74,14 +74,14 @@ public class DomElement {
     this.var_ = "";
     this.globalUnfocused_ = false;
     this.attributes_ = new HashMap<String, String>();
-    this.removedAttributes_ = new HashSet<String>();
-    this.properties_ = new TreeMap<Property, String>();
+    this.removedAttributes_ = Collections.emptySet();
+    this.properties_ = new EnumMap<Property, String>(Property.class);
     this.eventHandlers_ = new HashMap<String, DomElement.EventHandler>();
     this.childrenToAdd_ = new ArrayList<DomElement.ChildInsertion>();
-    this.childrenToSave_ = new ArrayList<String>();
-    this.updatedChildren_ = new ArrayList<DomElement>();
+    this.childrenToSave_ = Collections.emptyList();
+    this.updatedChildren_ = Collections.emptyList();
     this.childrenHtml_ = new EscapeOStream();
-    this.timeouts_ = new ArrayList<DomElement.TimeoutEvent>();
+    this.timeouts_ = Collections.emptyList();
     this.elementTagName_ = "";
   }
   /** set dom element custom tag name */
@@ -189,12 +189,18 @@ public class DomElement {
     if (child.getMode() == DomElement.Mode.Create) {
       this.numManipulations_ += 2;
       if (this.wasEmpty_ && this.canWriteInnerHTML(WApplication.getInstance())) {
+        if (this.timeouts_ == Collections.<DomElement.TimeoutEvent>emptyList()) {
+          this.timeouts_ = new ArrayList<DomElement.TimeoutEvent>();
+        }
         child.asHTML(this.childrenHtml_, this.javaScript_, this.timeouts_);
 
       } else {
         this.childrenToAdd_.add(new DomElement.ChildInsertion(-1, child));
       }
     } else {
+      if (this.updatedChildren_ == Collections.<DomElement>emptyList()) {
+        this.updatedChildren_ = new ArrayList<DomElement>();
+      }
       this.updatedChildren_.add(child);
     }
   }
@@ -216,6 +222,9 @@ public class DomElement {
    * the saved child.
    */
   public void saveChild(final String id) {
+    if (this.childrenToSave_ == Collections.<String>emptyList()) {
+      this.childrenToSave_ = new ArrayList<String>();
+    }
     this.childrenToSave_.add(id);
   }
   /** Sets an attribute value. */
@@ -243,6 +252,9 @@ public class DomElement {
   public void removeAttribute(final String attribute) {
     ++this.numManipulations_;
     this.attributes_.remove(attribute);
+    if (this.removedAttributes_ == Collections.<String>emptySet()) {
+      this.removedAttributes_ = new HashSet<String>();
+    }
     this.removedAttributes_.add(attribute);
   }
   /** Sets a property. */
@@ -290,15 +302,31 @@ public class DomElement {
     this.properties_.remove(property);
   }
   /** Sets a whole map of properties. */
-  public void setProperties(final SortedMap<Property, String> properties) {
+  public void setProperties(final Map<Property, String> properties) {
     for (Iterator<Map.Entry<Property, String>> i_it = properties.entrySet().iterator();
         i_it.hasNext(); ) {
       Map.Entry<Property, String> i = i_it.next();
       this.setProperty(i.getKey(), i.getValue());
     }
   }
-  /** Returns all properties currently set. */
+  /** Sets a whole map of properties. */
+  public void setProperties(final SortedMap<Property, String> properties) {
+    this.setProperties((Map<Property, String>) properties);
+  }
+  /**
+   * Returns all properties currently set.
+   *
+   * <p>This returns a live view on the properties, sorted by property. The sub map views of
+   * {@link SortedMap} are not supported.
+   *
+   * @deprecated Use {@link #getPropertyMap()} instead.
+   */
+  @Deprecated
   public SortedMap<Property, String> getProperties() {
+    return new PropertiesView(this.properties_);
+  }
+  /** Returns all properties currently set. */
+  public Map<Property, String> getPropertyMap() {
     return this.properties_;
   }
   /** Clears all properties. */
@@ -547,13 +575,14 @@ public class DomElement {
   /** Renders the element as JavaScript. */
   public void asJavaScript(final StringBuilder out) {
     this.mode_ = DomElement.Mode.Update;
-    EscapeOStream eout = new EscapeOStream(out);
+    EscapeOStream eout = EscapeOStream.obtain(out);
     this.declare(eout);
     eout.append(this.var_).append(".setAttribute('id', '").append(this.id_).append("');\n");
     this.mode_ = DomElement.Mode.Create;
     this.setJavaScriptProperties(eout, WApplication.getInstance());
     this.setJavaScriptAttributes(eout);
     this.asJavaScript(eout, DomElement.Priority.Update);
+    eout.release();
   }
   /**
    * Renders the element as JavaScript, by phase.
@@ -812,7 +841,7 @@ public class DomElement {
         String l = this.properties_.get(Property.Class);
         if (l != null) {
           out.append(l);
-          final SortedMap<Property, String> map = this.properties_;
+          final Map<Property, String> map = this.properties_;
           map.remove(Property.Class);
         }
         out.append('"');
@@ -1172,8 +1201,9 @@ public class DomElement {
   }
   /** Utility that renders a string as JavaScript literal. */
   public static void jsStringLiteral(final StringBuilder out, final String s, char delimiter) {
-    EscapeOStream sout = new EscapeOStream(out);
+    EscapeOStream sout = EscapeOStream.obtain(out);
     jsStringLiteral(sout, s, delimiter);
+    sout.release();
   }
   /**
    * Utility for rapid rendering of HTML attribute values.
@@ -1188,9 +1218,10 @@ public class DomElement {
   }
   /** Utility that renders a string as HTML attribute. */
   public static void htmlAttributeValue(final StringBuilder out, final String s) {
-    EscapeOStream sout = new EscapeOStream(out);
+    EscapeOStream sout = EscapeOStream.obtain(out);
     sout.pushEscape(EscapeOStream.RuleSet.HtmlAttribute);
     sout.append(s);
+    sout.release();
   }
   /** Returns whether a tag is self-closing in HTML. */
   public static boolean isSelfClosingTag(final String tag) {
@@ -1261,13 +1292,16 @@ public class DomElement {
    */
   public String addToParent(
       final StringBuilder out, final String parentVar, int pos, WApplication app) {
-    EscapeOStream sout = new EscapeOStream(out);
-    return this.addToParent(sout, parentVar, pos, app);
+    EscapeOStream sout = EscapeOStream.obtain(out);
+    String result = this.addToParent(sout, parentVar, pos, app);
+    sout.release();
+    return result;
   }
   /** Renders the element as JavaScript, and inserts it in the DOM. */
   public void createElement(final StringBuilder out, WApplication app, final String domInsertJS) {
-    EscapeOStream sout = new EscapeOStream(out);
+    EscapeOStream sout = EscapeOStream.obtain(out);
     this.createElement(sout, app, domInsertJS);
+    sout.release();
   }
   /** Allocates a JavaScript variable. */
   public String getCreateVar() {
@@ -1727,7 +1761,7 @@ public class DomElement {
   private boolean globalUnfocused_;
   private Map<String, String> attributes_;
   private Set<String> removedAttributes_;
-  private SortedMap<Property, String> properties_;
+  private EnumMap<Property, String> properties_;
   private Map<String, DomElement.EventHandler> eventHandlers_;
 
   static class ChildInsertion {
@@ -1966,4 +2000,92 @@ public class DomElement {
   static char toChar(int b) {
     return (char) b;
   }
+
+  /*
+   * A sorted view on the properties: an EnumMap iterates in the natural order of its keys.
+   */
+  private static class PropertiesView extends AbstractMap<Property, String>
+      implements SortedMap<Property, String> {
+    private final Map<Property, String> properties;
+
+    PropertiesView(final Map<Property, String> properties) {
+      this.properties = properties;
+    }
+
+    @Override
+    public Set<Map.Entry<Property, String>> entrySet() {
+      return this.properties.entrySet();
+    }
+
+    @Override
+    public int size() {
+      return this.properties.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return this.properties.containsKey(key);
+    }
+
+    @Override
+    public String get(Object key) {
+      return this.properties.get(key);
+    }
+
+    @Override
+    public String put(Property key, String value) {
+      return this.properties.put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+      return this.properties.remove(key);
+    }
+
+    @Override
+    public void clear() {
+      this.properties.clear();
+    }
+
+    @Override
+    public Comparator<? super Property> comparator() {
+      return null;
+    }
+
+    @Override
+    public Property firstKey() {
+      Iterator<Property> i = this.properties.keySet().iterator();
+      if (!i.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return i.next();
+    }
+
+    @Override
+    public Property lastKey() {
+      Property result = null;
+      for (Property p : this.properties.keySet()) {
+        result = p;
+      }
+      if (result == null) {
+        throw new NoSuchElementException();
+      }
+      return result;
+    }
+
+    @Override
+    public SortedMap<Property, String> subMap(Property fromKey, Property toKey) {
+      throw new UnsupportedOperationException("DomElement.getProperties(): no sub map views");
+    }
+
+    @Override
+    public SortedMap<Property, String> headMap(Property toKey) {
+      throw new UnsupportedOperationException("DomElement.getProperties(): no sub map views");
+    }
+
+    @Override
+    public SortedMap<Property, String> tailMap(Property fromKey) {
+      throw new UnsupportedOperationException("DomElement.getProperties(): no sub map views");
+    }
+  }
 }
@@ -6,14 +6,14 @@
 package eu.webtoolkit.jwt;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class EscapeOStream {
 	private static final Logger logger = LoggerFactory.getLogger(EscapeOStream.class);
-	
+
 	public enum RuleSet {
 		HtmlAttribute, JsStringLiteralSQuote, JsStringLiteralDQuote, Plain, PlainTextNewLines
 	};
@@ -24,28 +24,49 @@ public class EscapeOStream {
 
 	public EscapeOStream(Appendable sink) {
 		sink_ = sink;
-		mixed_ = null;
-		special_ = "";
-		ruleSets_ = new ArrayList<RuleSet>();
+		rules_ = Rules.NONE;
+	}
+
+	/**
+	 * Returns a stream on a sink, reusing a stream from a per-thread pool.
+	 * <p>
+	 * The stream should be given back using {@link #release()} when done.
+	 */
+	static EscapeOStream obtain(Appendable sink) {
+		EscapeOStream result = pool_.get().poll();
+		if (result == null)
+			return new EscapeOStream(sink);
+
+		result.sink_ = sink;
+		return result;
+	}
+
+	/**
+	 * Gives a stream obtained using {@link #obtain(Appendable)} back to the pool.
+	 */
+	void release() {
+		sink_ = null;
+		rules_ = Rules.NONE;
+
+		ArrayDeque<EscapeOStream> pool = pool_.get();
+		if (pool.size() < POOL_SIZE)
+			pool.push(this);
 	}
 
-	@SuppressWarnings("unchecked")
 	public EscapeOStream push() {
 		EscapeOStream result = new EscapeOStream(sink_);
 
-		result.ruleSets_ = (ArrayList<RuleSet>) ruleSets_.clone();
+		result.rules_ = rules_;
 
 		return result;
 	}
 
 	public void pushEscape(RuleSet rules) {
-		ruleSets_.add(rules);
-		mixRules();
+		rules_ = rules_.push(rules);
 	}
 
 	public void popEscape() {
-		ruleSets_.remove(ruleSets_.size() - 1);
-		mixRules();
+		rules_ = rules_.parent;
 	}
 
 
@@ -55,16 +76,11 @@ public class EscapeOStream {
 
 	public EscapeOStream append(char c) {
 		try {
-			if (special_ == "")
+			String s = rules_.escape(c);
+			if (s == null)
 				sink_.append(c);
-			else {
-				int i = special_.indexOf(c);
-
-				if (i != -1)
-					sink_.append(mixed_.get(i).s);
-				else
-					sink_.append(c);
-			}
+			else
+				sink_.append(s);
 		} catch (IOException e) {
 			logger.info("append({})", c, e);
 		}
@@ -73,23 +89,33 @@ public class EscapeOStream {
 	}
 
 	public EscapeOStream append(String s) {
-		append(s, this);
-		return this;
+		return append(s, 0, s.length(), this);
 	}
 
 	public EscapeOStream append(String s, EscapeOStream rules) {
+		return append(s, 0, s.length(), rules);
+	}
+
+	/**
+	 * Appends a part of a character sequence.
+	 * <p>
+	 * Runs of characters that need no escaping are copied to the sink in one call.
+	 */
+	public EscapeOStream append(CharSequence s, int start, int end) {
+		return append(s, start, end, this);
+	}
+
+	private EscapeOStream append(CharSequence s, int start, int end, EscapeOStream rules) {
 		try {
-			if (rules.special_ == null) {
-				sink_.append(s);
-				return this;
-			} else
-				put(s, rules);
+			if (rules.rules_ == Rules.NONE)
+				sink_.append(s, start, end);
+			else
+				put(s, start, end, rules.rules_);
 		} catch (IOException e) {
 			logger.info("append({})", s, e);
 		}
 
 		return this;
-
 	}
 
 	public EscapeOStream append(int i) {
@@ -113,140 +139,154 @@ public class EscapeOStream {
 
 
 	public boolean isEmpty() {
-		return sink_.toString().length() == 0;
+		if (sink_ instanceof CharSequence)
+			return ((CharSequence) sink_).length() == 0;
+		else
+			return sink_.toString().length() == 0;
 	}
 
 	public void flush() {
 	}
 
 	private Appendable sink_ = null;
-
-	private static class Entry {
-		public Entry(char c_, String s_) {
-			c = c_;
-			s = s_;
-		}
-
-		public Entry clone() {
-			return new Entry(c, s);
+	private Rules rules_;
+
+	private void put(CharSequence s, int start, int end, Rules rules) throws IOException {
+		String[] table = rules.table;
+		int lastPos = start;
+		for (int pos = start; pos < end; ++pos) {
+			char c = s.charAt(pos);
+			if (c < TABLE_SIZE && table[c] != null) {
+				if (pos > lastPos)
+					sink_.append(s, lastPos, pos);
+				sink_.append(table[c]);
+				lastPos = pos + 1;
+			}
 		}
 
-		public char c;
-		public String s = "";
+		if (end > lastPos)
+			sink_.append(s, lastPos, end);
 	}
 
-	private ArrayList<Entry> mixed_;
-	private String special_;
+	public void clear() {
+		((StringBuilder)sink_).delete(0, ((StringBuilder)sink_).length());
+	}
 
-	private void mixRules() {
-		int ruleSetsSize = ruleSets_.size();
+	public String toString() {
+		return sink_.toString();
+	}
 
-		if (ruleSetsSize == 0) {
-			mixed_ = null;
-			special_ = "";
-		} else if (ruleSetsSize == 1) {
-			mixed_ = standardSets_.get(ruleSets_.get(0).ordinal());
-			special_ = standardSetsSpecial_.get(ruleSets_.get(0).ordinal());
-		} else {
-			mixed_ = new ArrayList<Entry>();
-			for (int i = ruleSetsSize - 1; i >= 0; --i) {
-				ArrayList<Entry> toMix = standardSets_.get(ruleSets_.get(i).ordinal());
+	/*
+	 * All rule sets only escape ASCII characters, so the tables only cover those.
+	 */
+	private static final int TABLE_SIZE = 128;
+	private static final int POOL_SIZE = 16;
 
-				for (int j = 0; j < mixed_.size(); ++j)
-					for (int k = 0; k < toMix.size(); ++k)
-						mixed_.get(j).s = mixed_.get(j).s.replace(toMix.get(k).c + "", toMix.get(k).s);
+	private static final ThreadLocal<ArrayDeque<EscapeOStream>> pool_ = new ThreadLocal<ArrayDeque<EscapeOStream>>() {
+		@Override
+		protected ArrayDeque<EscapeOStream> initialValue() {
+			return new ArrayDeque<EscapeOStream>();
+		}
+	};
 
-				for (int j = 0; j < toMix.size(); ++j) {
-					mixed_.add((Entry) toMix.get(j).clone());
-					special_ += toMix.get(j).c;
+	/*
+	 * A combination of rule sets, as a stack of pushed rule sets.
+	 *
+	 * The escaping of each character is precomputed in a lookup table, by escaping it using the
+	 * last pushed rule set, and escaping the result using the rule sets that were pushed before.
+	 * Combinations are created once and then shared by all streams (and threads): the fields
+	 * are final so that a combination is safely published even when created concurrently.
+	 */
+	private static final class Rules {
+		static final Rules NONE = new Rules(null, null);
+
+		final Rules parent;
+		final String[] table;
+		private final Rules[] children = new Rules[RuleSet.values().length];
+
+		private Rules(Rules parent, RuleSet rules) {
+			this.parent = parent;
+
+			if (rules != null) {
+				String[] standard = standardSets_[rules.ordinal()];
+				table = new String[TABLE_SIZE];
+				for (char c = 0; c < TABLE_SIZE; ++c) {
+					String s = standard[c] != null ? standard[c] : String.valueOf(c);
+					String escaped = parent.escape(s);
+					if (standard[c] != null || !escaped.equals(s))
+						table[c] = escaped;
 				}
-			}
+			} else
+				table = null;
 		}
-	}
-
-	private void put(String s, EscapeOStream rules) {
-		try {
-			char [] sA = s.toCharArray();
-			char [] specialA = rules.special_.toCharArray();
 
-			for (int pos = 0; pos != -1;) {
-				int lastPos = pos;
-				pos = StringUtils.strpbrk(sA, pos, specialA);
-				if (pos != -1) {
-					char f = sA[pos];
+		Rules push(RuleSet rules) {
+			Rules result = children[rules.ordinal()];
+			if (result == null) {
+				result = new Rules(this, rules);
+				children[rules.ordinal()] = result;
+			}
 
-					sink_.append(s.substring(lastPos, pos));
+			return result;
+		}
 
-					for (int i = 0; i < rules.mixed_.size(); ++i) {
-						if (rules.mixed_.get(i).c == f) {
-							sink_.append(rules.mixed_.get(i).s);
-							break;
-						}
-					}
+		String escape(char c) {
+			return table != null && c < TABLE_SIZE ? table[c] : null;
+		}
 
-					pos = pos + 1;
+		private String escape(String s) {
+			if (table == null)
+				return s;
 
-				} else {
-					sink_.append(s.substring(lastPos));
-				}
+			StringBuilder result = new StringBuilder();
+			for (int i = 0; i < s.length(); ++i) {
+				char c = s.charAt(i);
+				String e = escape(c);
+				if (e != null)
+					result.append(e);
+				else
+					result.append(c);
 			}
-		} catch (IOException e) {
-			logger.info("put({})", s, e);
+
+			return result.toString();
 		}
 	}
-	
-	public void clear() {
-		((StringBuilder)sink_).delete(0, ((StringBuilder)sink_).length());
-	}
-	
-	public String toString() {
-		return sink_.toString();
-	}
 
-	private ArrayList<RuleSet> ruleSets_ = new ArrayList<RuleSet>();
+	private static final String[][] standardSets_ = new String[RuleSet.values().length][];
+
+	private static String[] standardSet(RuleSet rules) {
+		String[] result = new String[TABLE_SIZE];
+		standardSets_[rules.ordinal()] = result;
+		return result;
+	}
 
-	private static ArrayList<String> standardSetsSpecial_ = new ArrayList<String>();
-	private static ArrayList<Entry> htmlAttributeEntries_ = new ArrayList<Entry>();
-	private static ArrayList<Entry> jsStringLiteralSQuoteEntries_ = new ArrayList<Entry>();
-	private static ArrayList<Entry> jsStringLiteralDQuoteEntries_ = new ArrayList<Entry>();
-	private static ArrayList<ArrayList<Entry>> standardSets_ = new ArrayList<ArrayList<Entry>>();
-	private static ArrayList<Entry> plainTextEntries_ = new ArrayList<Entry>();
-	private static ArrayList<Entry> plainTextEntriesNewLines_ = new ArrayList<Entry>(); 
-	
 	static {
-		standardSetsSpecial_.add("&\"<");
-		standardSetsSpecial_.add("\\\n\r\t'");
-		standardSetsSpecial_.add("\\\n\r\t\"");
-		standardSetsSpecial_.add("&><");
-		standardSetsSpecial_.add("&><\n");
-
-		htmlAttributeEntries_.add(new Entry('&', "&amp;"));
-		htmlAttributeEntries_.add(new Entry('\"', "&#34;"));
-		htmlAttributeEntries_.add(new Entry('<', "&lt;"));
-		
-		plainTextEntries_.add(new Entry('&', "&amp;"));
-		plainTextEntries_.add(new Entry('>', "&gt;"));
-		plainTextEntries_.add(new Entry('<', "&lt;"));
-		
-		plainTextEntriesNewLines_.addAll(plainTextEntries_);
-		plainTextEntriesNewLines_.add(new Entry('\n', "<br />"));
-
-		jsStringLiteralSQuoteEntries_.add(new Entry('\\', "\\\\"));
-		jsStringLiteralSQuoteEntries_.add(new Entry('\n', "\\n"));
-		jsStringLiteralSQuoteEntries_.add(new Entry('\r', "\\r"));
-		jsStringLiteralSQuoteEntries_.add(new Entry('\t', "\\t"));
-		jsStringLiteralSQuoteEntries_.add(new Entry('\'', "\\'"));
-
-		jsStringLiteralDQuoteEntries_.add(new Entry('\\', "\\\\"));
-		jsStringLiteralDQuoteEntries_.add(new Entry('\n', "\\n"));
-		jsStringLiteralDQuoteEntries_.add(new Entry('\r', "\\r"));
-		jsStringLiteralDQuoteEntries_.add(new Entry('\t', "\\t"));
-		jsStringLiteralDQuoteEntries_.add(new Entry('"', "\\\""));
-
-		standardSets_.add(htmlAttributeEntries_);
-		standardSets_.add(jsStringLiteralSQuoteEntries_);
-		standardSets_.add(jsStringLiteralDQuoteEntries_);
-		standardSets_.add(plainTextEntries_);
-		standardSets_.add(plainTextEntriesNewLines_);
+		String[] htmlAttribute = standardSet(RuleSet.HtmlAttribute);
+		htmlAttribute['&'] = "&amp;";
+		htmlAttribute['\"'] = "&#34;";
+		htmlAttribute['<'] = "&lt;";
+
+		String[] plainText = standardSet(RuleSet.Plain);
+		plainText['&'] = "&amp;";
+		plainText['>'] = "&gt;";
+		plainText['<'] = "&lt;";
+
+		String[] plainTextNewLines = standardSet(RuleSet.PlainTextNewLines);
+		System.arraycopy(plainText, 0, plainTextNewLines, 0, TABLE_SIZE);
+		plainTextNewLines['\n'] = "<br />";
+
+		String[] jsStringLiteralSQuote = standardSet(RuleSet.JsStringLiteralSQuote);
+		jsStringLiteralSQuote['\\'] = "\\\\";
+		jsStringLiteralSQuote['\n'] = "\\n";
+		jsStringLiteralSQuote['\r'] = "\\r";
+		jsStringLiteralSQuote['\t'] = "\\t";
+		jsStringLiteralSQuote['\''] = "\\'";
+
+		String[] jsStringLiteralDQuote = standardSet(RuleSet.JsStringLiteralDQuote);
+		jsStringLiteralDQuote['\\'] = "\\\\";
+		jsStringLiteralDQuote['\n'] = "\\n";
+		jsStringLiteralDQuote['\r'] = "\\r";
+		jsStringLiteralDQuote['\t'] = "\\t";
+		jsStringLiteralDQuote['"'] = "\\\"";
 	}
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A ring buffer of events posted to a session.
+ * <p>
+ * The queue holds at most a configured number of events. What happens when an event is added
+ * to a full queue is decided by the {@link Configuration.EventQueueOverflow} policy. A capacity
+ * that is not positive means the queue is unbounded.
+ * <p>
+ * With the {@link Configuration.EventQueueOverflow#Coalesce} policy, the position of the pending
+ * event of each key is kept in a map, so that coalescing does not scan the queue.
+ * <p>
+ * This class is not thread-safe: the session guards it with its event queue lock.
+ */
+class EventQueue {
+	private static Logger logger = LoggerFactory.getLogger(EventQueue.class);
+
+	private static final int INITIAL_SIZE = 16;
+
+	private final int capacity;
+	private final Configuration.EventQueueOverflow overflow;
+	private ApplicationEvent[] events;
+	private int head = 0;
+	private int size = 0;
+	private final Map<String, Integer> keys;
+
+	EventQueue(int capacity, Configuration.EventQueueOverflow overflow) {
+		this.capacity = capacity;
+		this.overflow = overflow;
+		this.events = new ApplicationEvent[capacity > 0 ? Math.min(capacity, INITIAL_SIZE) : INITIAL_SIZE];
+		this.keys = overflow == Configuration.EventQueueOverflow.Coalesce ? new HashMap<String, Integer>() : null;
+	}
+
+	/**
+	 * Adds an event.
+	 *
+	 * @return the event which was discarded: the new event if it was rejected, the oldest event if
+	 * it was dropped to make room, or <code>null</code> if no event was discarded.
+	 */
+	ApplicationEvent add(ApplicationEvent event) {
+		if (keys != null && event.key != null) {
+			Integer index = keys.get(event.key);
+			if (index != null) {
+				events[index] = event;
+				return null;
+			}
+		}
+
+		ApplicationEvent discarded = null;
+		if (capacity > 0 && size == capacity) {
+			if (overflow == Configuration.EventQueueOverflow.Reject) {
+				logger.warn("Event queue full ({} events), rejecting event for session {}", size, event.sessionId);
+				return event;
+			}
+
+			logger.debug("Event queue full ({} events), dropping oldest event", size);
+			discarded = poll();
+		}
+
+		if (size == events.length)
+			grow();
+
+		int index = (head + size) % events.length;
+		events[index] = event;
+		++size;
+		if (keys != null && event.key != null)
+			keys.put(event.key, index);
+
+		return discarded;
+	}
+
+	/**
+	 * Removes and returns the oldest event, or <code>null</code> if the queue is empty.
+	 */
+	ApplicationEvent poll() {
+		if (size == 0)
+			return null;
+
+		ApplicationEvent result = events[head];
+		if (keys != null && result.key != null)
+			keys.remove(result.key);
+		events[head] = null;
+		head = (head + 1) % events.length;
+		--size;
+
+		return result;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void grow() {
+		int newLength = events.length * 2;
+		if (capacity > 0)
+			newLength = Math.min(newLength, capacity);
+
+		ApplicationEvent[] newEvents = new ApplicationEvent[newLength];
+		for (int i = 0; i < size; ++i)
+			newEvents[i] = events[(head + i) % events.length];
+
+		events = newEvents;
+		head = 0;
+
+		if (keys != null) {
+			for (int i = 0; i < size; ++i) {
+				if (events[i].key != null)
+					keys.put(events[i].key, i);
+			}
+		}
+	}
+}
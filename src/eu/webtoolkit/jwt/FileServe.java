@@ -6,12 +6,15 @@
 package eu.webtoolkit.jwt;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class FileServe {
 	public FileServe(String contents) {
-		this.template_ = contents;
+		this.template_ = compile(contents);
 		this.currentPos_ = 0;
 		this.vars_ = new HashMap<String, String>();
 		this.conditions_ = new HashMap<String, Boolean>();
@@ -42,78 +45,132 @@ class FileServe {
 	}
 
 	public void streamUntil(StringBuilder out, String until) throws IOException {
-		String currentVar = "";
-		boolean readingVar = false;
-		int start = currentPos_;
 		int noMatchConditions = 0;
 
-		for (; currentPos_ < template_.length(); ++currentPos_) {
-			if (readingVar) {
-				if (template_.startsWith("_$_", currentPos_)) {
-					if (currentVar.charAt(0) == '$') {
-						int _pos = currentVar.indexOf('_');
-						String fname = _pos == -1 ? currentVar.substring(1) : currentVar.substring(1, _pos);
-
-						currentPos_ += 2; // skip ()
-						
-						if (fname.equals("endif")) {
-							if (noMatchConditions > 0)
-								--noMatchConditions;
-						} else {
-							String farg = currentVar.substring(_pos + 1);
-
-							Boolean i = conditions_.get(farg);
-
-							if (i == null)
-								throw new WtException("Internal error: could not find condition: " + farg);
-
-							boolean c = i;
-							if (fname.equals("if"))
-								;
-							else if (fname.equals("ifnot"))
-								c = !c;
-
-							if (!c || noMatchConditions > 0)
-								++noMatchConditions;
-						}
-					} else {
-						if (currentVar.equals(until)) {
-							this.currentPos_ += 3;
-							return;
-						}
-
-						String v = vars_.get(currentVar);
-						if (v == null) {
-							throw new WtException("Internal error: could not find variable: " + currentVar);
-						}
-
-						if (noMatchConditions == 0)
-							out.append(v);					
-					}
-
-					readingVar = false;
-					start = this.currentPos_ + 3;
-					this.currentPos_ += 2;
-				} else {
-					currentVar += template_.charAt(currentPos_);
+		for (; currentPos_ < template_.length; ++currentPos_) {
+			Chunk chunk = template_[currentPos_];
+
+			switch (chunk.type) {
+			case Literal:
+				if (noMatchConditions == 0)
+					out.append(chunk.text);
+				break;
+			case Variable:
+				if (chunk.text.equals(until)) {
+					++currentPos_;
+					return;
 				}
-			} else {
-				if (template_.startsWith("_$_", currentPos_)) {
-					if (noMatchConditions == 0 && (currentPos_ - start > 0)) {
-						out.append(this.template_.substring(start, this.currentPos_));
-					}
-					this.currentPos_ += 2;
-					readingVar = true;
-					currentVar = "";
+
+				if (noMatchConditions > 0)
+					break;
+
+				String v = vars_.get(chunk.text);
+				if (v == null)
+					throw new WtException("Internal error: could not find variable: " + chunk.text);
+
+				out.append(v);
+				break;
+			case If:
+			case IfNot:
+				if (noMatchConditions > 0) {
+					++noMatchConditions;
+					break;
 				}
+
+				Boolean i = conditions_.get(chunk.text);
+				if (i == null)
+					throw new WtException("Internal error: could not find condition: " + chunk.text);
+
+				boolean c = chunk.type == ChunkType.If ? i : !i;
+				if (!c)
+					++noMatchConditions;
+				break;
+			case EndIf:
+				if (noMatchConditions > 0)
+					--noMatchConditions;
+				break;
 			}
 		}
-		if (noMatchConditions == 0 && (currentPos_ - start > 0)) {
-			out.append(this.template_.substring(start, this.currentPos_));
+	}
+
+	/**
+	 * Compiles a template, or returns the template compiled earlier.
+	 * <p>
+	 * The skeleton templates are compiled once when {@link WtServlet} is loaded, after which
+	 * streaming a template only walks over its chunks.
+	 */
+	static Chunk[] compile(String contents) {
+		Chunk[] result = compiled_.get(contents);
+		if (result == null) {
+			result = parse(contents);
+			compiled_.putIfAbsent(contents, result);
 		}
+
+		return result;
 	}
 
-	private final String template_;
+	/*
+	 * A template consists of literal text, variables (_$_NAME_$_) and conditions
+	 * (_$_$if_NAME_$_() ... _$_$endif_$_()). Variables and conditions inside a condition that
+	 * is not met need not be set.
+	 */
+	private static Chunk[] parse(String template) {
+		List<Chunk> result = new ArrayList<Chunk>();
+
+		int start = 0;
+		for (;;) {
+			int varStart = template.indexOf("_$_", start);
+			if (varStart == -1)
+				break;
+
+			int varEnd = template.indexOf("_$_", varStart + 3);
+			if (varEnd == -1)
+				break;
+
+			if (varStart > start)
+				result.add(new Chunk(ChunkType.Literal, template.substring(start, varStart)));
+
+			String var = template.substring(varStart + 3, varEnd);
+			start = varEnd + 3;
+
+			if (var.length() > 0 && var.charAt(0) == '$') {
+				int _pos = var.indexOf('_');
+				String fname = _pos == -1 ? var.substring(1) : var.substring(1, _pos);
+				String farg = var.substring(_pos + 1);
+
+				start += 2; // skip ()
+
+				if (fname.equals("endif"))
+					result.add(new Chunk(ChunkType.EndIf, ""));
+				else
+					result.add(new Chunk(fname.equals("ifnot") ? ChunkType.IfNot : ChunkType.If, farg));
+			} else
+				result.add(new Chunk(ChunkType.Variable, var));
+		}
+
+		if (start < template.length())
+			result.add(new Chunk(ChunkType.Literal, template.substring(start)));
+
+		return result.toArray(new Chunk[result.size()]);
+	}
+
+	enum ChunkType {
+		Literal, Variable, If, IfNot, EndIf
+	}
+
+	static class Chunk {
+		final ChunkType type;
+		final String text;
+
+		Chunk(ChunkType type, String text) {
+			this.type = type;
+			this.text = text;
+		}
+	}
+
+	private static final ConcurrentMap<String, Chunk[]> compiled_ = new ConcurrentHashMap<String, Chunk[]>();
+
+	private final Chunk[] template_;
 	private int currentPos_;
 	private HashMap<String, String> vars_;
 	private HashMap<String, Boolean> conditions_;
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+
+/**
+ * An interface for collecting metrics about the servlet.
+ * <p>
+ * The servlet core reports session counts, session lock contention, rendering and
+ * queued events to the metrics configured using {@link Configuration#setMetrics(Metrics)}.
+ * <p>
+ * Methods are called from request threads, often while holding a session lock, and should
+ * therefore return quickly and never block. All methods have an empty default implementation,
+ * so that an implementation only needs to override what it is interested in.
+ *
+ * @see WMetricsResource
+ */
+public interface Metrics {
+	/**
+	 * Metrics that ignore everything.
+	 * <p>
+	 * This is the default.
+	 */
+	public static final Metrics NONE = new Metrics() { };
+
+	/**
+	 * The number of sessions has changed.
+	 *
+	 * @param sessionCount the number of active sessions
+	 * @param ajaxSessionCount the number of those sessions which use Ajax
+	 */
+	default void sessionCountChanged(int sessionCount, int ajaxSessionCount) { }
+
+	/**
+	 * A session lock has been acquired.
+	 *
+	 * @param waitNanos the time spent waiting for the lock, in nanoseconds
+	 */
+	default void sessionLockAcquired(long waitNanos) { }
+
+	/**
+	 * A session lock has been released.
+	 *
+	 * @param holdNanos the time the lock was held, in nanoseconds
+	 */
+	default void sessionLockReleased(long holdNanos) { }
+
+	/**
+	 * A response has been rendered.
+	 *
+	 * @param type the response type
+	 * @param renderNanos the time spent rendering, in nanoseconds
+	 * @param size the size of the response, in characters
+	 */
+	default void responseRendered(WebRequest.ResponseType type, long renderNanos, int size) { }
+
+	/**
+	 * An event has been posted to a session.
+	 *
+	 * @param queueSize the number of events queued for the session, including this one
+	 * @param queued whether the event was queued, or rejected because the queue was full
+	 */
+	default void eventQueued(int queueSize, boolean queued) { }
+
+	/**
+	 * A server push update has been requested using {@link WApplication#triggerUpdate()}.
+	 */
+	default void pushRequested() { }
+
+	/**
+	 * A server push update has been sent.
+	 * <p>
+	 * Several requested updates may be folded into a single update that is sent.
+	 *
+	 * @see Configuration#setServerPushInterval(int)
+	 */
+	default void pushSent() { }
+
+	/**
+	 * A WebSocket message has been received.
+	 */
+	default void webSocketMessageReceived() { }
+
+	/**
+	 * A WebSocket message has been sent.
+	 */
+	default void webSocketMessageSent() { }
+
+	/**
+	 * A WebSocket message has been merged with a queued message, because the client does not
+	 * keep up.
+	 *
+	 * @see Configuration#setWebSocketHighWaterMark(int)
+	 */
+	default void webSocketMessageMerged() { }
+
+	/**
+	 * A WebSocket connection has been dropped, because the client does not keep up.
+	 *
+	 * @see Configuration#setWebSocketHighWaterMark(int)
+	 */
+	default void webSocketDropped() { }
+}
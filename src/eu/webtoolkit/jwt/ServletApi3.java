@@ -12,6 +12,8 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.servlet.AsyncContext;
@@ -143,14 +145,27 @@ class ServletApi3 extends ServletApi{
 				public void onComplete(AsyncEvent arg0) throws IOException {					
 				}
 			});
-			request.getAsyncContext().start(new Runnable() {
+			Runnable task = new Runnable() {
 				@Override
 				public void run() {
 					threadWrapper.t = Thread.currentThread();
 					handleRequest(servlet, request, response);
 					handleRequestFinished.set(true);
 				}
-			});
+			};
+
+			Executor executor = servlet.getConfiguration().getRequestExecutor();
+			if (executor != null) {
+				try {
+					executor.execute(task);
+				} catch (RejectedExecutionException e) {
+					logger.warn("Request executor rejected request: {}", request.getRequestURI());
+					handleRequestFinished.set(true);
+					response.setStatus(503);
+					response.flush();
+				}
+			} else
+				request.getAsyncContext().start(task);
 		} else
 			handleRequest(servlet, request, response);
 	}
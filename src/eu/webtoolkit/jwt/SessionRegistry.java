@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the live sessions of a {@link WtServlet}.
+ * <p>
+ * Sessions are kept in a concurrent (internally striped) map, and the session counts are
+ * maintained in atomic counters, so that neither registering a new session, expiring one,
+ * nor reading the counts contends on a servlet-wide monitor.
+ * <p>
+ * Iteration (see {@link #getSessions()}) is weakly consistent: it never throws a
+ * {@link java.util.ConcurrentModificationException} and does not block concurrent
+ * additions or removals.
+ */
+class SessionRegistry {
+	private static final int CONCURRENCY_LEVEL = 64;
+
+	private final ConcurrentMap<String, WebSession> sessions;
+	private final AtomicInteger sessionCount = new AtomicInteger();
+	private final AtomicInteger ajaxSessionCount = new AtomicInteger();
+
+	SessionRegistry() {
+		this.sessions = new ConcurrentHashMap<String, WebSession>(16, 0.75f, CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Registers a session.
+	 *
+	 * @param session the session to register
+	 * @return the number of sessions after registration
+	 */
+	int add(WebSession session) {
+		WebSession previous = sessions.put(session.getSessionId(), session);
+		if (previous == null)
+			return sessionCount.incrementAndGet();
+		else
+			return sessionCount.get();
+	}
+
+	/**
+	 * Unregisters a session.
+	 * <p>
+	 * It is safe to call this more than once for the same session: only the call that actually
+	 * removes the session updates the counts.
+	 *
+	 * @param session the session to unregister
+	 * @return the number of sessions after removal
+	 */
+	int remove(WebSession session) {
+		if (sessions.remove(session.getSessionId(), session)) {
+			if (session.getEnv().hasAjax())
+				ajaxSessionCount.decrementAndGet();
+			return sessionCount.decrementAndGet();
+		} else
+			return sessionCount.get();
+	}
+
+	/**
+	 * Unregisters a session by id.
+	 *
+	 * @param sessionId the session id
+	 */
+	void remove(String sessionId) {
+		WebSession session = sessions.get(sessionId);
+		if (session != null)
+			remove(session);
+	}
+
+	/**
+	 * Records that a registered session has progressed to an Ajax session.
+	 */
+	void newAjaxSession() {
+		ajaxSessionCount.incrementAndGet();
+	}
+
+	WebSession get(String sessionId) {
+		return sessions.get(sessionId);
+	}
+
+	/**
+	 * Returns a weakly consistent view on the registered sessions.
+	 */
+	Collection<WebSession> getSessions() {
+		return sessions.values();
+	}
+
+	int getSessionCount() {
+		return sessionCount.get();
+	}
+
+	int getAjaxSessionCount() {
+		return ajaxSessionCount.get();
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+import eu.webtoolkit.jwt.utils.StreamUtils;
+
+/**
+ * An in-memory cache of static files served by {@link WtServlet}.
+ * <p>
+ * Each file is read once, after which its contents, a gzip-compressed variant (for text
+ * based content), an entity tag and its length are kept. Requests are then served from
+ * memory, supporting conditional requests (<code>If-None-Match</code>) and gzip content
+ * encoding, without involving any session or lock.
+ * <p>
+ * Only files that exist are cached, so the cache is bounded by the set of deployed files.
+ */
+class StaticFileCache {
+	/**
+	 * Loads the contents of a static file.
+	 */
+	interface Loader {
+		/**
+		 * Returns a stream for the file, or <code>null</code> if it does not exist.
+		 */
+		InputStream open(String fileName) throws IOException;
+	}
+
+	static class Entry {
+		final byte[] content;
+		final byte[] gzipped;
+		final String etag;
+		final String gzippedETag;
+		final String mimeType;
+
+		Entry(byte[] content, byte[] gzipped, String etag, String mimeType) {
+			this.content = content;
+			this.gzipped = gzipped;
+			this.etag = etag;
+			this.gzippedETag = gzipped != null ? etag.substring(0, etag.length() - 1) + "-gzip\"" : null;
+			this.mimeType = mimeType;
+		}
+
+		/**
+		 * Returns a version which changes when the content changes, for use in a URL.
+		 */
+		String getVersion() {
+			return etag.substring(1, 17);
+		}
+	}
+
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+	private final Loader loader;
+
+	StaticFileCache(Loader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns the cache entry for a file, loading it if needed.
+	 *
+	 * @return the entry, or <code>null</code> if the file does not exist.
+	 */
+	Entry get(String fileName, String mimeType) throws IOException {
+		Entry entry = entries.get(fileName);
+		if (entry != null)
+			return entry;
+
+		InputStream s = loader.open(fileName);
+		if (s == null)
+			return null;
+
+		try {
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			StreamUtils.copy(s, content);
+			entry = createEntry(content.toByteArray(), mimeType);
+		} finally {
+			StreamUtils.closeQuietly(s);
+		}
+
+		Entry previous = entries.putIfAbsent(fileName, entry);
+		return previous != null ? previous : entry;
+	}
+
+	/**
+	 * Adds generated content, which is then served like a file.
+	 * <p>
+	 * The file name is the prefix followed by the version of the content (see
+	 * {@link Entry#getVersion()}).
+	 *
+	 * @return the version.
+	 */
+	String putVersioned(String prefix, byte[] content, String mimeType) throws IOException {
+		Entry entry = createEntry(content, mimeType);
+		entries.putIfAbsent(prefix + entry.getVersion(), entry);
+		return entry.getVersion();
+	}
+
+	/**
+	 * Serves a file.
+	 *
+	 * @return whether the file exists.
+	 */
+	boolean serve(HttpServletRequest request, HttpServletResponse response, String fileName, String mimeType) throws IOException {
+		return serve(request, response, fileName, mimeType, null);
+	}
+
+	/**
+	 * Serves a file, which was requested using a versioned URL.
+	 * <p>
+	 * When the version matches the version of the file (see {@link Entry#getVersion()}), the
+	 * response may be cached forever.
+	 *
+	 * @return whether the file exists.
+	 */
+	boolean serve(HttpServletRequest request, HttpServletResponse response, String fileName, String mimeType,
+			String version) throws IOException {
+		Entry entry = get(fileName, mimeType);
+		if (entry == null)
+			return false;
+
+		if (version != null && version.equals(entry.getVersion()))
+			response.setHeader("Cache-Control", "public, max-age=31536000, immutable");
+		boolean gzip = entry.gzipped != null && WebRequest.acceptsGzip(request.getHeader("Accept-Encoding"));
+		response.setHeader("ETag", gzip ? entry.gzippedETag : entry.etag);
+		if (entry.gzipped != null)
+			response.setHeader("Vary", "Accept-Encoding");
+
+		String ifNoneMatch = request.getHeader("If-None-Match");
+		if (matches(ifNoneMatch, entry.etag) || (entry.gzippedETag != null && matches(ifNoneMatch, entry.gzippedETag))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return true;
+		}
+
+		response.setContentType(entry.mimeType);
+
+		byte[] body = entry.content;
+		if (gzip) {
+			response.setHeader("Content-Encoding", "gzip");
+			body = entry.gzipped;
+		}
+
+		response.setContentLength(body.length);
+		if (!"HEAD".equals(request.getMethod())) {
+			response.getOutputStream().write(body);
+			response.getOutputStream().flush();
+		}
+
+		return true;
+	}
+
+	private static Entry createEntry(byte[] content, String mimeType) throws IOException {
+		byte[] gzipped = null;
+		if (isCompressible(mimeType)) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			GZIPOutputStream gzip = new GZIPOutputStream(bytes);
+			gzip.write(content);
+			gzip.close();
+			if (bytes.size() < content.length)
+				gzipped = bytes.toByteArray();
+		}
+
+		return new Entry(content, gzipped, computeETag(content), mimeType);
+	}
+
+	private static boolean isCompressible(String mimeType) {
+		return mimeType.startsWith("text/") || mimeType.endsWith("javascript") || mimeType.endsWith("json")
+				|| mimeType.endsWith("xml");
+	}
+
+	private static String computeETag(byte[] content) {
+		try {
+			MessageDigest d = MessageDigest.getInstance("MD5");
+			byte[] digest = d.digest(content);
+			StringBuilder result = new StringBuilder(2 + digest.length * 2);
+			result.append('"');
+			for (byte b : digest)
+				result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			result.append('"');
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null)
+			return false;
+
+		for (String tag : ifNoneMatch.split(",")) {
+			tag = tag.trim();
+			if (tag.startsWith("W/"))
+				tag = tag.substring(2);
+			if (tag.equals("*") || tag.equals(etag))
+				return true;
+		}
+
+		return false;
+	}
+}
@@ -313,13 +313,16 @@ public class StringUtils {
 	}
 	
 	static void sanitizeUnicode(EscapeOStream sout, String text) {
+		int start = 0;
 		for (int i = 0; i < text.length(); i++) {
 			char c = text.charAt(i);
-		      if (isValidUnicode(c))
-		    	  sout.append(c);
-		      else 
-		    	  sout.append(0xFFFD);
+			if (!isValidUnicode(c)) {
+				sout.append(text, start, i);
+				sout.append(0xFFFD);
+				start = i + 1;
+			}
 		}
+		sout.append(text, start, text.length());
 	}
 	
 	static void split(Set<String> tokens, String in, String sep, boolean compress_adjacent_tokens) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Matches user agent strings against a list of regular expressions.
+ * <p>
+ * The regular expressions are compiled once into a single alternation, and the outcome for
+ * recently seen user agents is kept in a bounded LRU cache, since in practice a handful of
+ * user agent strings make up almost all traffic.
+ * <p>
+ * A user agent matches when it matches any of the regular expressions entirely, as with
+ * {@link String#matches(String)}.
+ */
+class UserAgentMatcher {
+	private final Pattern pattern;
+	private final Map<String, Boolean> cache;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	UserAgentMatcher(List<String> regexes, final int cacheSize) {
+		this.pattern = compile(regexes);
+		this.cache = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	boolean matches(String userAgent) {
+		if (pattern == null)
+			return false;
+
+		synchronized (cache) {
+			Boolean result = cache.get(userAgent);
+			if (result != null) {
+				hits.incrementAndGet();
+				return result;
+			}
+		}
+
+		misses.incrementAndGet();
+		boolean result = pattern.matcher(userAgent).matches();
+
+		synchronized (cache) {
+			cache.put(userAgent, result);
+		}
+
+		return result;
+	}
+
+	long getHits() {
+		return hits.get();
+	}
+
+	long getMisses() {
+		return misses.get();
+	}
+
+	private static Pattern compile(List<String> regexes) {
+		if (regexes.isEmpty())
+			return null;
+
+		StringBuilder combined = new StringBuilder();
+		for (String regex : regexes) {
+			if (combined.length() != 0)
+				combined.append('|');
+			combined.append("(?:").append(regex).append(')');
+		}
+
+		return Pattern.compile(combined.toString());
+	}
+}
@@ -333,10 +333,10 @@ public abstract class WAbstractToggleButton extends WFormWidget {
         click != null && click.needsUpdate(all) || piggyBackChangeOnClick && needUpdateChangeSignal;
     super.updateDom(input, all);
     if (element != input) {
-      if (element.getProperties().get(Property.Class) != null) {
+      if (element.getPropertyMap().get(Property.Class) != null) {
         input.addPropertyWord(Property.Class, element.getProperty(Property.Class));
       }
-      element.setProperties(input.getProperties());
+      element.setProperties(input.getPropertyMap());
       input.clearProperties();
       String v = element.getProperty(Property.Disabled);
       if (v.length() != 0) {
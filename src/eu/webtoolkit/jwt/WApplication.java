@@ -1483,6 +1483,7 @@ public class WApplication extends WObject {
               .append("WApplication::triggerUpdate(): updates not enabled?")
               .toString());
     }
+    this.session_.getController().getConfiguration().getMetrics().pushRequested();
     this.session_.setTriggerUpdate(true);
   }
   /**
@@ -2611,6 +2612,21 @@ public class WApplication extends WObject {
             .toString());
     this.quit();
   }
+  /**
+   * Idle cache release handler.
+   *
+   * <p>If an idle cache release timeout is set in the configuration ({@link
+   * Configuration#setIdleCacheReleaseTimeout(int)}), this method is called (with the application lock
+   * held) when the session did not receive any request or web socket message for that number of
+   * seconds.
+   *
+   * <p>This is an opportunity to release caches held by the application which can be rebuilt when
+   * the user comes back, such as cached query results or models. JWt itself releases the cached
+   * message resource bundles (see {@link WLocalizedStrings#hibernate()}) and its rendering buffers.
+   *
+   * <p>The default implementation does nothing.
+   */
+  protected void releaseIdleCaches() {}
   /**
    * handleJavaScriptError print javaScript errors to log file. You may want to overwrite it to
    * render error page for example.
@@ -2749,21 +2765,16 @@ public class WApplication extends WObject {
   void addExposedSignal(AbstractEventSignal signal) {
     String s = signal.encodeCmd();
     this.exposedSignals_.put(s, signal);
-    logger.debug(new StringWriter().append("addExposedSignal: ").append(s).toString());
+    logger.debug("addExposedSignal: {}", s);
   }
 
   void removeExposedSignal(AbstractEventSignal signal) {
     String s = signal.encodeCmd();
     if (this.exposedSignals_.remove(s) != null) {
       this.justRemovedSignals_.add(s);
-      logger.debug(new StringWriter().append("removeExposedSignal: ").append(s).toString());
+      logger.debug("removeExposedSignal: {}", s);
     } else {
-      logger.debug(
-          new StringWriter()
-              .append("removeExposedSignal of non-exposed ")
-              .append(s)
-              .append("??")
-              .toString());
+      logger.debug("removeExposedSignal of non-exposed {}??", s);
     }
   }
 
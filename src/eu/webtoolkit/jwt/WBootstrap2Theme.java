@@ -247,7 +247,7 @@ public class WBootstrap2Theme extends WTheme {
               element.addPropertyWord(Property.Class, "btn-primary");
             }
             if (button.getMenu() != null
-                && element.getProperties().get(Property.InnerHTML) != null) {
+                && element.getPropertyMap().get(Property.InnerHTML) != null) {
               element.addPropertyWord(Property.InnerHTML, "<span class=\"caret\"></span>");
             }
             if (creating && !(button.getText().length() == 0)) {
@@ -44,8 +44,7 @@ final class WFileUploadResource extends WResource {
     if (triggerUpdate || 0 != 0) {
       UserAgent agent = WApplication.getInstance().getEnvironment().getAgent();
       if (triggerUpdate) {
-        logger.debug(
-            new StringWriter().append("Resource handleRequest(): signaling uploaded").toString());
+        logger.debug("Resource handleRequest(): signaling uploaded");
         if (agent == UserAgent.IE6 || agent == UserAgent.IE7) {
           o.append("window.parent.")
               .append(WApplication.getInstance().getJavaScriptClass())
@@ -64,10 +63,7 @@ final class WFileUploadResource extends WResource {
         }
       } else {
         if (0 != 0) {
-          logger.debug(
-              new StringWriter()
-                  .append("Resource handleRequest(): signaling file-too-large")
-                  .toString());
+          logger.debug("Resource handleRequest(): signaling file-too-large");
           String s = String.valueOf(0);
           if (agent == UserAgent.IE6 || agent == UserAgent.IE7) {
             o.append(this.fileUpload_.fileTooLarge().createCall(s));
@@ -82,7 +78,7 @@ final class WFileUploadResource extends WResource {
         }
       }
     } else {
-      logger.debug(new StringWriter().append("Resource handleRequest(): no signal").toString());
+      logger.debug("Resource handleRequest(): no signal");
     }
     o.append("}\n</script></head><body onload=\"load();\"></body></html>");
     if (!(0 != 0) && !files.isEmpty()) {
@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+import eu.webtoolkit.jwt.servlet.WebResponse;
+
+/**
+ * A resource which collects metrics in memory, and serves them.
+ * <p>
+ * This implements {@link Metrics} using counters and fixed-bucket histograms, and serves
+ * them in the Prometheus text exposition format, so that they can be scraped by a
+ * monitoring system without additional dependencies.
+ * <p>
+ * Usage example:
+ * <pre>
+ * {@code
+ * WMetricsResource metrics = new WMetricsResource();
+ * servlet.getConfiguration().setMetrics(metrics);
+ * servlet.addResource(metrics, "/metrics");
+ * }
+ * </pre>
+ * <p>
+ * Note that the metrics are not protected: you may want to deploy them on a path that is
+ * not reachable from outside.
+ */
+public class WMetricsResource extends WResource implements Metrics {
+	private static final long[] TIME_BUCKETS = {
+		10000L, 100000L, 1000000L, 5000000L, 10000000L, 50000000L,
+		100000000L, 500000000L, 1000000000L, 5000000000L };
+	private static final long[] SIZE_BUCKETS = { 1024, 4096, 16384, 65536, 262144, 1048576 };
+	private static final long[] QUEUE_BUCKETS = { 1, 2, 5, 10, 50, 100, 1000, 10000 };
+
+	/**
+	 * A histogram with fixed buckets.
+	 * <p>
+	 * Recording a value is lock-free.
+	 */
+	public static class Histogram {
+		private final long[] bounds;
+		private final AtomicLongArray counts;
+		private final AtomicLong sum = new AtomicLong();
+
+		/**
+		 * Creates a histogram.
+		 *
+		 * @param bounds the (inclusive) upper bounds of the buckets, in increasing order. Values
+		 *            larger than the last bound are counted in an additional bucket.
+		 */
+		public Histogram(long[] bounds) {
+			this.bounds = bounds.clone();
+			this.counts = new AtomicLongArray(bounds.length + 1);
+		}
+
+		/**
+		 * Records a value.
+		 */
+		public void record(long value) {
+			int i = Arrays.binarySearch(bounds, value);
+			if (i < 0)
+				i = -i - 1;
+			counts.incrementAndGet(i);
+			sum.addAndGet(value);
+		}
+
+		/**
+		 * Returns the number of values recorded.
+		 */
+		public long getCount() {
+			long result = 0;
+			for (int i = 0; i < counts.length(); ++i)
+				result += counts.get(i);
+			return result;
+		}
+
+		/**
+		 * Returns the sum of the values recorded.
+		 */
+		public long getSum() {
+			return sum.get();
+		}
+
+		/**
+		 * Returns the number of values recorded which are smaller than or equal to a bound.
+		 */
+		public long getCount(long bound) {
+			long result = 0;
+			for (int i = 0; i < bounds.length && bounds[i] <= bound; ++i)
+				result += counts.get(i);
+			return result;
+		}
+
+		void write(Writer out, String name, String labels, double scale) throws IOException {
+			String prefix = labels.length() == 0 ? "{" : "{" + labels + ",";
+			long cumulative = 0;
+			for (int i = 0; i < bounds.length; ++i) {
+				cumulative += counts.get(i);
+				out.append(name).append("_bucket").append(prefix).append("le=\"")
+					.append(String.valueOf(bounds[i] / scale)).append("\"} ")
+					.append(String.valueOf(cumulative)).append('\n');
+			}
+			cumulative += counts.get(bounds.length);
+			out.append(name).append("_bucket").append(prefix).append("le=\"+Inf\"} ")
+				.append(String.valueOf(cumulative)).append('\n');
+			String suffix = labels.length() == 0 ? " " : "{" + labels + "} ";
+			out.append(name).append("_sum").append(suffix).append(String.valueOf(sum.get() / scale)).append('\n');
+			out.append(name).append("_count").append(suffix).append(String.valueOf(cumulative)).append('\n');
+		}
+	}
+
+	private volatile int sessionCount = 0;
+	private volatile int ajaxSessionCount = 0;
+	private final Histogram lockWait = new Histogram(TIME_BUCKETS);
+	private final Histogram lockHold = new Histogram(TIME_BUCKETS);
+	private final Map<WebRequest.ResponseType, Histogram> renderTime
+		= new EnumMap<WebRequest.ResponseType, Histogram>(WebRequest.ResponseType.class);
+	private final Map<WebRequest.ResponseType, Histogram> responseSize
+		= new EnumMap<WebRequest.ResponseType, Histogram>(WebRequest.ResponseType.class);
+	private final Histogram eventQueueSize = new Histogram(QUEUE_BUCKETS);
+	private final AtomicLong eventsRejected = new AtomicLong();
+	private final AtomicLong pushesRequested = new AtomicLong();
+	private final AtomicLong pushesSent = new AtomicLong();
+	private final AtomicLong webSocketMessagesReceived = new AtomicLong();
+	private final AtomicLong webSocketMessagesSent = new AtomicLong();
+	private final AtomicLong webSocketMessagesMerged = new AtomicLong();
+	private final AtomicLong webSocketsDropped = new AtomicLong();
+
+	/**
+	 * Creates a metrics resource.
+	 */
+	public WMetricsResource() {
+		for (WebRequest.ResponseType type : WebRequest.ResponseType.values()) {
+			renderTime.put(type, new Histogram(TIME_BUCKETS));
+			responseSize.put(type, new Histogram(SIZE_BUCKETS));
+		}
+	}
+
+	@Override
+	public void sessionCountChanged(int sessionCount, int ajaxSessionCount) {
+		this.sessionCount = sessionCount;
+		this.ajaxSessionCount = ajaxSessionCount;
+	}
+
+	@Override
+	public void sessionLockAcquired(long waitNanos) {
+		lockWait.record(waitNanos);
+	}
+
+	@Override
+	public void sessionLockReleased(long holdNanos) {
+		lockHold.record(holdNanos);
+	}
+
+	@Override
+	public void responseRendered(WebRequest.ResponseType type, long renderNanos, int size) {
+		renderTime.get(type).record(renderNanos);
+		responseSize.get(type).record(size);
+	}
+
+	@Override
+	public void eventQueued(int queueSize, boolean queued) {
+		eventQueueSize.record(queueSize);
+		if (!queued)
+			eventsRejected.incrementAndGet();
+	}
+
+	@Override
+	public void pushRequested() {
+		pushesRequested.incrementAndGet();
+	}
+
+	@Override
+	public void pushSent() {
+		pushesSent.incrementAndGet();
+	}
+
+	@Override
+	public void webSocketMessageReceived() {
+		webSocketMessagesReceived.incrementAndGet();
+	}
+
+	@Override
+	public void webSocketMessageSent() {
+		webSocketMessagesSent.incrementAndGet();
+	}
+
+	@Override
+	public void webSocketMessageMerged() {
+		webSocketMessagesMerged.incrementAndGet();
+	}
+
+	@Override
+	public void webSocketDropped() {
+		webSocketsDropped.incrementAndGet();
+	}
+
+	/**
+	 * Returns the session lock wait time histogram (in nanoseconds).
+	 */
+	public Histogram getSessionLockWait() {
+		return lockWait;
+	}
+
+	/**
+	 * Returns the session lock hold time histogram (in nanoseconds).
+	 */
+	public Histogram getSessionLockHold() {
+		return lockHold;
+	}
+
+	/**
+	 * Returns the render time histogram (in nanoseconds) for a response type.
+	 */
+	public Histogram getRenderTime(WebRequest.ResponseType type) {
+		return renderTime.get(type);
+	}
+
+	/**
+	 * Returns the response size histogram (in characters) for a response type.
+	 */
+	public Histogram getResponseSize(WebRequest.ResponseType type) {
+		return responseSize.get(type);
+	}
+
+	/**
+	 * Returns the queued event depth histogram.
+	 */
+	public Histogram getEventQueueSize() {
+		return eventQueueSize;
+	}
+
+	@Override
+	protected void handleRequest(WebRequest request, WebResponse response) throws IOException {
+		response.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+		response.addHeader("Cache-Control", "no-cache");
+		write(response.out());
+	}
+
+	void write(Writer out) throws IOException {
+		int sessions = sessionCount, ajaxSessions = ajaxSessionCount;
+		out.append("# TYPE jwt_sessions gauge\n");
+		out.append("jwt_sessions{type=\"ajax\"} ").append(String.valueOf(ajaxSessions)).append('\n');
+		out.append("jwt_sessions{type=\"plain\"} ").append(String.valueOf(sessions - ajaxSessions)).append('\n');
+
+		out.append("# TYPE jwt_session_lock_wait_seconds histogram\n");
+		lockWait.write(out, "jwt_session_lock_wait_seconds", "", 1E9);
+		out.append("# TYPE jwt_session_lock_hold_seconds histogram\n");
+		lockHold.write(out, "jwt_session_lock_hold_seconds", "", 1E9);
+
+		out.append("# TYPE jwt_render_seconds histogram\n");
+		for (Map.Entry<WebRequest.ResponseType, Histogram> e : renderTime.entrySet())
+			e.getValue().write(out, "jwt_render_seconds", typeLabel(e.getKey()), 1E9);
+		out.append("# TYPE jwt_response_size_chars histogram\n");
+		for (Map.Entry<WebRequest.ResponseType, Histogram> e : responseSize.entrySet())
+			e.getValue().write(out, "jwt_response_size_chars", typeLabel(e.getKey()), 1);
+
+		out.append("# TYPE jwt_event_queue_size histogram\n");
+		eventQueueSize.write(out, "jwt_event_queue_size", "", 1);
+		out.append("# TYPE jwt_events_rejected_total counter\n");
+		out.append("jwt_events_rejected_total ").append(String.valueOf(eventsRejected.get())).append('\n');
+
+		out.append("# TYPE jwt_pushes_total counter\n");
+		out.append("jwt_pushes_total{state=\"requested\"} ").append(String.valueOf(pushesRequested.get())).append('\n');
+		out.append("jwt_pushes_total{state=\"sent\"} ").append(String.valueOf(pushesSent.get())).append('\n');
+
+		out.append("# TYPE jwt_websocket_messages_total counter\n");
+		out.append("jwt_websocket_messages_total{direction=\"received\"} ")
+			.append(String.valueOf(webSocketMessagesReceived.get())).append('\n');
+		out.append("jwt_websocket_messages_total{direction=\"sent\"} ")
+			.append(String.valueOf(webSocketMessagesSent.get())).append('\n');
+		out.append("# TYPE jwt_websocket_messages_merged_total counter\n");
+		out.append("jwt_websocket_messages_merged_total ")
+			.append(String.valueOf(webSocketMessagesMerged.get())).append('\n');
+		out.append("# TYPE jwt_websockets_dropped_total counter\n");
+		out.append("jwt_websockets_dropped_total ").append(String.valueOf(webSocketsDropped.get())).append('\n');
+	}
+
+	private static String typeLabel(WebRequest.ResponseType type) {
+		return "type=\"" + type.name().toLowerCase() + "\"";
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of rendered pages for web crawlers.
+ * <p>
+ * For a web crawler, a new application is created and rendered as plain HTML for every
+ * request, after which it is discarded. When a page cache is configured (see
+ * {@link Configuration#setPageCache(WPageCache)}), the rendered page is kept, and a
+ * subsequent request for the same page is served from the cache, without creating an
+ * application.
+ * <p>
+ * A page is identified by the host name, the deployment path of the entry point, the
+ * internal path, the locale, and an application specific key (see
+ * {@link #getCacheKey(WEnvironment)}). Pages expire after a time-to-live, and the least
+ * recently used pages are evicted when the cache is full. Pages may also be invalidated
+ * explicitly, e.g. when the content they show has been changed.
+ * <p>
+ * Only the content type and the body of the response are kept: the cache should thus not
+ * be used for applications which set cookies or other headers for crawlers.
+ * <p>
+ * Plain HTML sessions for regular browsers are not cached, since the rendered page
+ * refers to the session.
+ */
+public class WPageCache {
+	/**
+	 * A cached page.
+	 */
+	public static class Page {
+		private final String contentType;
+		private final String content;
+		private final long expires;
+
+		Page(String contentType, String content, long expires) {
+			this.contentType = contentType;
+			this.content = content;
+			this.expires = expires;
+		}
+
+		/**
+		 * Returns the content type.
+		 */
+		public String getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * Returns the content.
+		 */
+		public String getContent() {
+			return content;
+		}
+	}
+
+	private final int maxPages;
+	private final long timeToLive;
+	private final LinkedHashMap<String, Page> pages;
+
+	/**
+	 * Creates a page cache.
+	 *
+	 * @param maxPages the maximum number of pages that are kept
+	 * @param timeToLive the time (in milliseconds) for which a page is kept
+	 */
+	public WPageCache(int maxPages, long timeToLive) {
+		this.maxPages = maxPages;
+		this.timeToLive = timeToLive;
+		this.pages = new LinkedHashMap<String, Page>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Page> eldest) {
+				return size() > WPageCache.this.maxPages;
+			}
+		};
+	}
+
+	/**
+	 * Returns whether the page for an environment may be cached.
+	 * <p>
+	 * The default implementation returns whether the client is a web crawler.
+	 */
+	public boolean isCacheable(WEnvironment env) {
+		return env.agentIsSpiderBot();
+	}
+
+	/**
+	 * Returns an application specific key for an environment.
+	 * <p>
+	 * Override this method when the rendered page depends on more than the internal path and
+	 * the locale, e.g. on a request parameter. The default implementation returns an empty
+	 * string.
+	 */
+	protected String getCacheKey(WEnvironment env) {
+		return "";
+	}
+
+	/**
+	 * Returns the key under which the page for an environment is cached.
+	 */
+	String getKey(WEnvironment env) {
+		return env.getHostName() + '\0' + env.getDeploymentPath() + '\0' + env.getInternalPath() + '\0'
+				+ env.getLocale() + '\0' + getCacheKey(env);
+	}
+
+	/**
+	 * Returns the cached page for a key, or <code>null</code>.
+	 */
+	synchronized Page get(String key) {
+		Page page = pages.get(key);
+		if (page != null && page.expires <= System.currentTimeMillis()) {
+			pages.remove(key);
+			return null;
+		}
+
+		return page;
+	}
+
+	/**
+	 * Caches a page.
+	 */
+	synchronized void put(String key, String contentType, String content) {
+		pages.put(key, new Page(contentType, content, System.currentTimeMillis() + timeToLive));
+	}
+
+	/**
+	 * Returns the number of cached pages.
+	 * <p>
+	 * This may include pages which have expired but have not yet been removed.
+	 */
+	public synchronized int getSize() {
+		return pages.size();
+	}
+
+	/**
+	 * Invalidates the pages for an internal path.
+	 * <p>
+	 * This invalidates the pages (for all hosts, entry points, locales and application
+	 * specific keys) of the given internal path and the internal paths below it.
+	 *
+	 * @see WApplication#internalPathMatches(String)
+	 */
+	public synchronized void invalidate(String internalPath) {
+		for (Iterator<String> i = pages.keySet().iterator(); i.hasNext();) {
+			String key = i.next();
+			int start = key.indexOf('\0', key.indexOf('\0') + 1) + 1;
+			int end = key.indexOf('\0', start);
+			if (matches(key.substring(start, end), internalPath))
+				i.remove();
+		}
+	}
+
+	/**
+	 * Invalidates all pages.
+	 */
+	public synchronized void invalidateAll() {
+		pages.clear();
+	}
+
+	private static boolean matches(String path, String query) {
+		if (query.endsWith("/"))
+			query = query.substring(0, query.length() - 1);
+
+		return path.startsWith(query)
+				&& (path.length() == query.length() || path.charAt(query.length()) == '/');
+	}
+}
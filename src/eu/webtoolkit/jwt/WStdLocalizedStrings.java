@@ -124,6 +124,17 @@ public class WStdLocalizedStrings extends WLocalizedStrings {
 			bundles.put(bundleName, new Bundle(bundleName));
 	}
 
+	/**
+	 * Releases the loaded bundles.
+	 * <p>
+	 * They are loaded again when a key is resolved.
+	 */
+	@Override
+	public void hibernate() {
+		for (Bundle bundle : bundles.values())
+			bundle.resources.clear();
+	}
+
 	@Override
 	public LocalizedString resolveKey(final Locale locale, final String key) {
 		for (String bundleName : bundles.keySet()) {
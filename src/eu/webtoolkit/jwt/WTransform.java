@@ -646,17 +646,9 @@ public class WTransform extends WJavaScriptExposableObject {
    */
   public void decomposeTranslateRotateScaleRotate(final WTransform.TRSRDecomposition result) {
     double[] mtm = new double[4];
-    logger.debug(
-        new StringWriter()
-            .append("M: \n")
-            .append(String.valueOf(this.m_[M11]))
-            .append(" ")
-            .append(String.valueOf(this.m_[M12]))
-            .append("\n   ")
-            .append(String.valueOf(this.m_[M21]))
-            .append(" ")
-            .append(String.valueOf(this.m_[M22]))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("M: \n{} {}\n   {} {}", this.m_[M11], this.m_[M12], this.m_[M21], this.m_[M22]);
+    }
     matrixMultiply(
         this.m_[M11],
         this.m_[M21],
@@ -672,17 +664,9 @@ public class WTransform extends WJavaScriptExposableObject {
     eigenValues(mtm, e, V);
     result.sx = Math.sqrt(e[0]);
     result.sy = Math.sqrt(e[1]);
-    logger.debug(
-        new StringWriter()
-            .append("V: \n")
-            .append(String.valueOf(V[M11]))
-            .append(" ")
-            .append(String.valueOf(V[M12]))
-            .append("\n   ")
-            .append(String.valueOf(V[M21]))
-            .append(" ")
-            .append(String.valueOf(V[M22]))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("V: \n{} {}\n   {} {}", V[M11], V[M12], V[M21], V[M22]);
+    }
     if (V[0] * V[3] - V[1] * V[2] < 0) {
       result.sx = -result.sx;
       V[0] = -V[0];
@@ -694,17 +678,9 @@ public class WTransform extends WJavaScriptExposableObject {
     U[2] /= result.sx;
     U[1] /= result.sy;
     U[3] /= result.sy;
-    logger.debug(
-        new StringWriter()
-            .append("U: \n")
-            .append(String.valueOf(U[M11]))
-            .append(" ")
-            .append(String.valueOf(U[M12]))
-            .append("\n   ")
-            .append(String.valueOf(U[M21]))
-            .append(" ")
-            .append(String.valueOf(U[M22]))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("U: \n{} {}\n   {} {}", U[M11], U[M12], U[M21], U[M22]);
+    }
     if (U[0] * U[3] - U[1] * U[2] < 0) {
       result.sx = -result.sx;
       U[0] = -U[0];
@@ -712,17 +688,14 @@ public class WTransform extends WJavaScriptExposableObject {
     }
     result.alpha1 = Math.atan2(U[2], U[0]);
     result.alpha2 = Math.atan2(V[1], V[0]);
-    logger.debug(
-        new StringWriter()
-            .append("alpha1: ")
-            .append(String.valueOf(result.alpha1))
-            .append(", alpha2: ")
-            .append(String.valueOf(result.alpha2))
-            .append(", sx: ")
-            .append(String.valueOf(result.sx))
-            .append(", sy: ")
-            .append(String.valueOf(result.sy))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "alpha1: {}, alpha2: {}, sx: {}, sy: {}",
+          result.alpha1,
+          result.alpha2,
+          result.sx,
+          result.sy);
+    }
     result.dx = this.m_[DX];
     result.dy = this.m_[DY];
   }
@@ -1874,6 +1874,10 @@ public abstract class WWidget extends WObject {
 
   void setParentWidget(WWidget p) {
     this.parent_ = p;
+    WApplication app = WApplication.getInstance();
+    if (app != null) {
+      app.getSession().getRenderer().treeChanged();
+    }
   }
 
   void setGlobalWidget(boolean globalWidget) {
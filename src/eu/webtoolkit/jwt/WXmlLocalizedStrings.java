@@ -7,10 +7,13 @@ package eu.webtoolkit.jwt;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import net.n3.nanoxml.IXMLParser;
 import net.n3.nanoxml.IXMLReader;
@@ -21,6 +24,8 @@ import net.n3.nanoxml.XMLParserFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import eu.webtoolkit.jwt.utils.StreamUtils;
+
 import static eu.webtoolkit.jwt.PluralExpression.evalPluralCase;
 
 /**
@@ -89,11 +94,8 @@ public class WXmlLocalizedStrings extends WLocalizedStrings {
 				return new LocalizedString();
 		}
 		
-		private void load(final String locale) {
-			if (!resources.containsKey(locale))
-				resources.put(locale, new Resource());
-			final Resource target = resources.get(locale);
-			target.map_.clear();
+		private String load(final String locale) {
+			resources.put(locale, new Resource());
 			
 			InputStream stream = null;
 			String bundlePath = null;
@@ -109,9 +111,17 @@ public class WXmlLocalizedStrings extends WLocalizedStrings {
 			
 			if (stream == null) {
 				logger.warn("Could not find resource \"" + bundleName + "\"");
-				return;
+				return null;
+			}
+
+			Resource shared = preloaded.get(bundlePath);
+			if (shared != null) {
+				StreamUtils.closeQuietly(stream);
+				resources.put(locale, shared);
+				return bundlePath;
 			}
 			
+			final Resource target = new Resource();
 			try {
 				XmlMessageParser xmlParser = new XmlMessageParser();
 				IXMLParser parser = XMLParserFactory.createDefaultXMLParser();
@@ -123,19 +133,27 @@ public class WXmlLocalizedStrings extends WLocalizedStrings {
 				target.map_.putAll(xmlParser.getKeyValues());
 				target.pluralCount_ = xmlParser.getPluralCount();
 				target.pluralExpression_ = xmlParser.getPluralExpression();
+				resources.put(locale, target);
 			} catch (ClassNotFoundException |
 					 InstantiationException |
 					 IllegalAccessException |
 					 IOException |
 					 XMLException e) {
 				logger.error("Failed to load bundle: {}", bundlePath, e);
+				return null;
+			} finally {
+				StreamUtils.closeQuietly(stream);
 			}
+
+			return bundlePath;
 		}
 		
 		public String bundleName;
 		public Map<String, Resource> resources = new HashMap<>();
 	}
 
+	private static final ConcurrentMap<String, Resource> preloaded = new ConcurrentHashMap<>();
+
 	private Map<String, Bundle> bundles = new HashMap<>();
 
 	/**
@@ -155,6 +173,17 @@ public class WXmlLocalizedStrings extends WLocalizedStrings {
 			this.bundles.put(bundleName, new Bundle(bundleName));
 	}
 
+	/**
+	 * Releases the parsed bundles.
+	 * <p>
+	 * They are parsed again (or shared from a preloaded bundle) when a key is resolved.
+	 */
+	@Override
+	public void hibernate() {
+		for (Bundle bundle : bundles.values())
+			bundle.resources.clear();
+	}
+
 	public LocalizedString resolveKey(final Locale locale, final String key) {
 		for (String bundleName : bundles.keySet()) {
 			LocalizedString result = bundles.get(bundleName).resolveKey(locale, key);
@@ -176,4 +205,27 @@ public class WXmlLocalizedStrings extends WLocalizedStrings {
 	public void useBuiltin(String bundle) {
 		use(bundle);
 	}
+
+	/**
+	 * Preloads an XML file.
+	 * <p>
+	 * The file is parsed once and its contents are shared by all instances that use it,
+	 * instead of being parsed again, or copied, by every session. The shared messages are
+	 * read-only.
+	 *
+	 * @param bundleName the bundle name, as passed to {@link #use(String)}
+	 * @param locale the locale for which the bundle is loaded
+	 * @return whether the bundle was found and parsed.
+	 */
+	public static boolean preload(String bundleName, Locale locale) {
+		Bundle bundle = new Bundle(bundleName);
+		String bundlePath = bundle.load(locale.toString());
+		if (bundlePath == null)
+			return false;
+
+		Resource shared = bundle.resources.get(locale.toString());
+		shared.map_ = Collections.unmodifiableMap(shared.map_);
+		preloaded.putIfAbsent(bundlePath, shared);
+		return true;
+	}
 }
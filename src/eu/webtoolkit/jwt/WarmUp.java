@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+import eu.webtoolkit.jwt.servlet.WebResponse;
+
+/**
+ * Warms up a servlet before it serves its first request.
+ * <p>
+ * The warm-up preloads the configured message resource bundles, and renders a synthetic
+ * session (using a {@link WTestEnvironment}) for every configured entry point type and
+ * internal path. The sessions are not registered with the servlet and are discarded
+ * afterwards.
+ *
+ * @see Configuration#setWarmUpEnabled(boolean)
+ */
+class WarmUp {
+	private static Logger logger = LoggerFactory.getLogger(WarmUp.class);
+
+	private final WtServlet servlet;
+
+	WarmUp(WtServlet servlet) {
+		this.servlet = servlet;
+	}
+
+	/**
+	 * Runs the warm-up.
+	 * <p>
+	 * Failures are logged, and never prevent the servlet from starting.
+	 *
+	 * @return the number of sessions that were rendered.
+	 */
+	int run() {
+		Configuration conf = servlet.getConfiguration();
+		long start = System.nanoTime();
+
+		int bundles = 0;
+		if (WXmlLocalizedStrings.preload(WtServlet.Wt_xml, Locale.ROOT))
+			++bundles;
+		for (String bundleName : conf.getPreloadedBundles()) {
+			if (WXmlLocalizedStrings.preload(bundleName, Locale.ROOT))
+				++bundles;
+		}
+
+		int sessions = 0;
+		for (EntryPointType type : conf.getWarmUpEntryPoints()) {
+			for (String internalPath : conf.getWarmUpInternalPaths()) {
+				if (render(conf, type, internalPath))
+					++sessions;
+			}
+		}
+
+		logger.info("Warm-up preloaded {} bundles and rendered {} sessions in {} ms", bundles, sessions,
+				(System.nanoTime() - start) / 1000000);
+
+		return sessions;
+	}
+
+	private boolean render(Configuration conf, EntryPointType type, String internalPath) {
+		WTestEnvironment env = new WTestEnvironment(conf, type);
+		try {
+			env.setInternalPath(internalPath);
+			WApplication app = servlet.createApplication(env);
+			if (app == null)
+				return false;
+
+			if (WtServlet.getServletApi() != null) {
+				WebRenderer renderer = app.getSession().getRenderer();
+				serve(renderer, WebRequest.ResponseType.Page);
+				serve(renderer, WebRequest.ResponseType.Script);
+			} else
+				app.getDomRoot().htmlText(new StringWriter());
+
+			return true;
+		} catch (Exception e) {
+			logger.warn("Warm-up of {} '{}' failed", type, internalPath, e);
+			return false;
+		} finally {
+			env.close();
+		}
+	}
+
+	private static void serve(WebRenderer renderer, WebRequest.ResponseType type) throws IOException {
+		WebResponse response = new WebResponse(new ByteArrayOutputStream());
+		response.setResponseType(type);
+		renderer.serveResponse(response);
+		response.flush();
+	}
+}
@@ -21,6 +21,18 @@ import org.slf4j.LoggerFactory;
 class WebRenderer implements SlotLearnerInterface {
   private static Logger logger = LoggerFactory.getLogger(WebRenderer.class);
 
+  /** Large responses are written in chunks of this many characters. */
+  private static final int SEND_CHUNK_SIZE = 8192;
+
+  /** The buffer used to write a large response, shared by the sessions served by a thread. */
+  private static final ThreadLocal<char[]> sendChunk_ =
+      new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+          return new char[SEND_CHUNK_SIZE];
+        }
+      };
+
   public WebRenderer(final WebSession session) {
     super();
     this.session_ = session;
@@ -28,6 +40,8 @@ class WebRenderer implements SlotLearnerInterface {
     this.rendered_ = false;
     this.initialStyleRendered_ = false;
     this.twoPhaseThreshold_ = 5000;
+    this.scriptLibraryLoaded_ = false;
+    this.scriptLibraryJQuery_ = false;
     this.pageId_ = 0;
     this.ackErrs_ = 0;
     this.expectedAckId_ = 0;
@@ -47,7 +61,8 @@ class WebRenderer implements SlotLearnerInterface {
     this.invisibleJS_ = new StringBuilder();
     this.statelessJS_ = new StringBuilder();
     this.beforeLoadJS_ = new StringBuilder();
-    this.updateMap_ = new HashSet<WWidget>();
+    this.updateMap_ = new DirtyWidgetSet();
+    this.updateOrder_ = new ArrayList<WWidget>();
     this.learning_ = false;
   }
 
@@ -69,36 +84,31 @@ class WebRenderer implements SlotLearnerInterface {
 
   public void setRendered(boolean how) {
     if (this.rendered_ != how) {
-      logger.debug(
-          new StringWriter().append("setRendered: ").append(String.valueOf(how)).toString());
+      if (logger.isDebugEnabled()) {
+        logger.debug("setRendered: {}", how);
+      }
       this.rendered_ = how;
     }
   }
 
   public void needUpdate(WWidget w, boolean laterOnly) {
-    logger.debug(
-        new StringWriter()
-            .append("needUpdate: ")
-            .append(w.getId())
-            .append(" (")
-            .append("(fixme)")
-            .append(")")
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("needUpdate: {}", w.getId());
+    }
     this.updateMap_.add(w);
     if (!laterOnly) {
       this.moreUpdates_ = true;
     }
   }
 
+  void treeChanged() {
+    this.updateMap_.treeChanged();
+  }
+
   public void doneUpdate(WWidget w) {
-    logger.debug(
-        new StringWriter()
-            .append("doneUpdate: ")
-            .append(w.getId())
-            .append(" (")
-            .append("(fixme)")
-            .append(")")
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("doneUpdate: {}", w.getId());
+    }
     this.updateMap_.remove(w);
   }
 
@@ -177,6 +187,8 @@ class WebRenderer implements SlotLearnerInterface {
   }
 
   public void serveResponse(final WebResponse response) throws IOException {
+    long start = System.nanoTime();
+    this.responseSize_ = 0;
     this.session_.setTriggerUpdate(false);
     switch (response.getResponseType()) {
       case Update:
@@ -199,6 +211,12 @@ class WebRenderer implements SlotLearnerInterface {
         this.serveMainscript(response);
         break;
     }
+    this.session_
+        .getController()
+        .getConfiguration()
+        .getMetrics()
+        .responseRendered(
+            response.getResponseType(), System.nanoTime() - start, this.responseSize_);
   }
 
   public void serveError(int status, final WebResponse response, final String message)
@@ -240,7 +258,7 @@ class WebRenderer implements SlotLearnerInterface {
       app.styleSheetsAdded_ = 0;
       this.initialStyleRendered_ = true;
       this.linkedCssCount_ = app.styleSheets_.size();
-      response.out().append(out.toString());
+      this.send(response, out);
     } else {
       if (this.linkedCssCount_ > -1) {
         WApplication app = this.session_.getApp();
@@ -252,7 +270,7 @@ class WebRenderer implements SlotLearnerInterface {
         for (int i = 0; i < count; ++i) {
           app.styleSheets_.get(i).cssText(out);
         }
-        response.out().append(out.toString());
+        this.send(response, out);
       }
     }
   }
@@ -292,15 +310,11 @@ class WebRenderer implements SlotLearnerInterface {
   }
 
   public WebRenderer.AckState ackUpdate(int updateId) {
-    logger.debug(
-        new StringWriter()
-            .append("ackUpdate: expecting ")
-            .append(String.valueOf(this.expectedAckId_))
-            .append(", received ")
-            .append(String.valueOf(updateId))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("ackUpdate: expecting {}, received {}", this.expectedAckId_, updateId);
+    }
     if (updateId == this.expectedAckId_) {
-      logger.debug(new StringWriter().append("jsSynced(false) after ackUpdate okay").toString());
+      logger.debug("jsSynced(false) after ackUpdate okay");
       this.setJSSynced(false);
       this.ackErrs_ = 0;
       return WebRenderer.AckState.CorrectAck;
@@ -384,13 +398,32 @@ class WebRenderer implements SlotLearnerInterface {
     }
   }
 
+  public void releaseIdleCaches() {
+    if (this.collectedJS1_.length() == 0) {
+      this.collectedJS1_.trimToSize();
+    }
+    if (this.collectedJS2_.length() == 0) {
+      this.collectedJS2_.trimToSize();
+    }
+    if (this.invisibleJS_.length() == 0) {
+      this.invisibleJS_.trimToSize();
+    }
+    if (this.statelessJS_.length() == 0) {
+      this.statelessJS_.trimToSize();
+    }
+    if (this.beforeLoadJS_.length() == 0) {
+      this.beforeLoadJS_.trimToSize();
+    }
+  }
+
   public boolean isJsSynced() {
     return (this.collectedJS1_.length() == 0) && (this.collectedJS2_.length() == 0);
   }
 
   public void setJSSynced(boolean invisibleToo) {
-    logger.debug(
-        new StringWriter().append("setJSSynced: ").append(String.valueOf(invisibleToo)).toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("setJSSynced: {}", invisibleToo);
+    }
     this.collectedJS1_.setLength(0);
     this.collectedJS2_.setLength(0);
     if (!invisibleToo) {
@@ -434,7 +467,10 @@ class WebRenderer implements SlotLearnerInterface {
   private boolean rendered_;
   private boolean initialStyleRendered_;
   private int twoPhaseThreshold_;
+  private boolean scriptLibraryLoaded_;
+  private boolean scriptLibraryJQuery_;
   private int pageId_;
+  private int responseSize_;
   private int ackErrs_;
   private int expectedAckId_;
   private int scriptId_;
@@ -518,28 +554,27 @@ class WebRenderer implements SlotLearnerInterface {
     StringBuilder out = new StringBuilder();
     if (!this.rendered_) {
       this.serveMainAjax(out);
+      this.compress(response, out.length());
+      this.send(response, out);
     } else {
       this.collectJavaScript();
       this.addResponseAckPuzzle(out);
       this.renderSetServerPush(out);
-      logger.debug(
-          new StringWriter()
-              .append("js: ")
-              .append(this.collectedJS1_.toString())
-              .append(this.collectedJS2_.toString())
-              .toString());
-      out.append(this.collectedJS1_.toString()).append(this.collectedJS2_.toString());
+      logger.debug("js: {}{}", this.collectedJS1_, this.collectedJS2_);
+      this.compress(
+          response, out.length() + this.collectedJS1_.length() + this.collectedJS2_.length());
+      this.send(response, out);
+      this.send(response, this.collectedJS1_);
+      this.send(response, this.collectedJS2_);
       if (response.isWebSocketMessage()) {
+        out.setLength(0);
         this.renderCookieUpdate(out);
         this.renderWsRequestsDone(out);
-        logger.debug(
-            new StringWriter()
-                .append("jsSynced(false) after rendering websocket message")
-                .toString());
+        logger.debug("jsSynced(false) after rendering websocket message");
         this.setJSSynced(false);
+        this.send(response, out);
       }
     }
-    response.out().append(out.toString());
   }
 
   private void serveMainscript(final WebResponse response) throws IOException {
@@ -555,7 +590,7 @@ class WebRenderer implements SlotLearnerInterface {
       String redirect = this.session_.getRedirect();
       if (redirect.length() != 0) {
         this.streamRedirectJS(out, redirect);
-        response.out().append(out.toString());
+        this.send(response, out);
         return;
       }
     } else {
@@ -565,7 +600,8 @@ class WebRenderer implements SlotLearnerInterface {
     WApplication app = this.session_.getApp();
     final boolean innerHtml = true;
     if (serveSkeletons) {
-      boolean haveJQuery = app.isCustomJQuery();
+      boolean library = this.scriptLibraryLoaded_ && !widgetset;
+      boolean haveJQuery = app.isCustomJQuery() || library && this.scriptLibraryJQuery_;
       if (!haveJQuery) {
         out.append("if (typeof window.$ === 'undefined') {");
         out.append(WtServlet.JQuery_js);
@@ -584,6 +620,8 @@ class WebRenderer implements SlotLearnerInterface {
       script.setCondition(
           "SHOW_ERROR", conf.getErrorReporting() == Configuration.ErrorReporting.ErrorMessage);
       script.setCondition("UGLY_INTERNAL_PATHS", this.session_.isUseUglyInternalPaths());
+      script.setCondition("LIBRARY", !library);
+      script.setCondition("SESSION", true);
       script.setCondition("DYNAMIC_JS", false);
       script.setVar("WT_CLASS", "Wt4_6_1");
       script.setVar("APP_CLASS", app.getJavaScriptClass());
@@ -637,7 +675,8 @@ class WebRenderer implements SlotLearnerInterface {
       script.stream(out);
     }
     if (!serveRest) {
-      response.out().append(out.toString());
+      this.compress(response, out.length());
+      this.send(response, out);
       return;
     }
     out.append(app.getJavaScriptClass()).append("._p_.setPage(").append(this.pageId_).append(");");
@@ -687,13 +726,8 @@ class WebRenderer implements SlotLearnerInterface {
         this.currentFormObjectsList_ = "";
         this.collectJavaScript();
         this.updateLoadIndicator(this.collectedJS1_, app, true);
-        logger.debug(
-            new StringWriter()
-                .append("js: ")
-                .append(this.collectedJS1_.toString())
-                .append(this.collectedJS2_.toString())
-                .toString());
-        out.append(this.collectedJS1_.toString());
+        logger.debug("js: {}{}", this.collectedJS1_, this.collectedJS2_);
+        out.append(this.collectedJS1_);
         this.addResponseAckPuzzle(out);
         out.append(app.getJavaScriptClass())
             .append("._p_.setHash(")
@@ -704,7 +738,7 @@ class WebRenderer implements SlotLearnerInterface {
         }
         out.append(app.getJavaScriptClass())
             .append("._p_.update(null, 'load', null, false);")
-            .append(this.collectedJS2_.toString())
+            .append(this.collectedJS2_)
             .append("};");
         this.session_.getApp().serverPushChanged_ = true;
         this.renderSetServerPush(out);
@@ -721,7 +755,8 @@ class WebRenderer implements SlotLearnerInterface {
             .append("._p_.load(true);});\n");
       }
     }
-    response.out().append(out.toString());
+    this.compress(response, out.length());
+    this.send(response, out);
   }
 
   private void serveBootstrap(final WebResponse response) throws IOException {
@@ -755,7 +790,7 @@ class WebRenderer implements SlotLearnerInterface {
     this.streamBootContent(response, boot, false);
     boot.stream(out);
     this.setRendered(false);
-    response.out().append(out.toString());
+    this.send(response, out);
   }
 
   private void serveMainpage(final WebResponse response) throws IOException {
@@ -784,11 +819,18 @@ class WebRenderer implements SlotLearnerInterface {
       this.setHeaders(response, "text/html; charset=UTF-8");
       return;
     }
+    boolean streamed =
+        conf.isStreamedRendering()
+            && app.getEnvironment().hasAjax()
+            && !app.getEnvironment().agentIsSpiderBot();
     WWebWidget mainWebWidget = app.domRoot_;
     this.visibleOnly_ = true;
-    DomElement mainElement = mainWebWidget.createSDomElement(app);
-    this.setRendered(true);
-    this.setJSSynced(true);
+    DomElement mainElement = null;
+    if (!streamed) {
+      mainElement = mainWebWidget.createSDomElement(app);
+      this.setRendered(true);
+      this.setJSSynced(true);
+    }
     StringBuilder styleSheets = new StringBuilder();
     if (app.getTheme() != null) {
       List<WLinkedCssStyleSheet> sheets = app.getTheme().getStyleSheets();
@@ -836,16 +878,28 @@ class WebRenderer implements SlotLearnerInterface {
     this.setCaching(response, false);
     response.addHeader("X-Frame-Options", "SAMEORIGIN");
     this.setHeaders(response, contentType);
-    this.currentFormObjectsList_ = this.createFormObjectsList(app);
+    if (!streamed) {
+      this.currentFormObjectsList_ = this.createFormObjectsList(app);
+    }
     if (hybridPage) {
       this.streamBootContent(response, page, true);
     }
     StringBuilder out = new StringBuilder();
     page.streamUntil(out, "HTML");
+    if (streamed) {
+      this.send(response, out);
+      out.setLength(0);
+      this.flush(response);
+      mainElement = mainWebWidget.createSDomElement(app);
+      this.setRendered(true);
+      this.setJSSynced(true);
+      this.currentFormObjectsList_ = this.createFormObjectsList(app);
+      this.renderStreamedHeadChanges(out, app);
+    }
     List<DomElement.TimeoutEvent> timeouts = new ArrayList<DomElement.TimeoutEvent>();
     {
       EscapeOStream js = new EscapeOStream();
-      EscapeOStream eout = new EscapeOStream(out);
+      EscapeOStream eout = new EscapeOStream(streamed ? new StreamedOutput(response, out) : out);
       mainElement.asHTML(eout, js, timeouts);
       this.invisibleJS_.append(js.toString());
 
@@ -870,7 +924,7 @@ class WebRenderer implements SlotLearnerInterface {
     page.setVar("REFRESH", String.valueOf(refresh));
     page.stream(out);
     app.internalPathIsChanged_ = false;
-    response.out().append(out.toString());
+    this.send(response, out);
   }
 
   private void serveMainAjax(final StringBuilder out) {
@@ -945,7 +999,7 @@ class WebRenderer implements SlotLearnerInterface {
     if (widgetset) {
       app.domRoot2_.rootAsJavaScript(app, s, true);
     }
-    logger.debug(new StringWriter().append("js: ").append(s.toString()).toString());
+    logger.debug("js: {}", s);
     out.append(s.toString());
     this.currentFormObjectsList_ = this.createFormObjectsList(app);
     out.append(app.getJavaScriptClass())
@@ -956,9 +1010,8 @@ class WebRenderer implements SlotLearnerInterface {
     this.setRendered(true);
     this.setJSSynced(true);
     this.preLearnStateless(app, this.collectedJS1_);
-    logger.debug(
-        new StringWriter().append("js: ").append(this.collectedJS1_.toString()).toString());
-    out.append(this.collectedJS1_.toString());
+    logger.debug("js: {}", this.collectedJS1_);
+    out.append(this.collectedJS1_);
     this.collectedJS1_.setLength(0);
     this.updateLoadIndicator(out, app, true);
     if (widgetset) {
@@ -993,11 +1046,7 @@ class WebRenderer implements SlotLearnerInterface {
   private void collectJavaScript() throws IOException {
     WApplication app = this.session_.getApp();
     final Configuration conf = this.session_.getController().getConfiguration();
-    logger.debug(
-        new StringWriter()
-            .append("Rendering invisible: ")
-            .append(this.invisibleJS_.toString())
-            .toString());
+    logger.debug("Rendering invisible: {}", this.invisibleJS_);
     this.collectedJS1_.append(this.invisibleJS_.toString());
     this.invisibleJS_.setLength(0);
     int librariesLoaded = this.loadScriptLibraries(this.collectedJS1_, app);
@@ -1077,61 +1126,36 @@ class WebRenderer implements SlotLearnerInterface {
     WApplication app = this.session_.getApp();
     do {
       this.moreUpdates_ = false;
-      OrderedMultiMap<Integer, WWidget> depthOrder = new OrderedMultiMap<Integer, WWidget>();
-      for (Iterator<WWidget> i_it = this.updateMap_.iterator(); i_it.hasNext(); ) {
-        WWidget i = i_it.next();
-        int depth = 1;
-        WWidget ww = i;
-        WWidget w = ww;
-        for (; w.getParent() != null; ++depth) {
-          w = w.getParent();
-        }
-        if (w != app.domRoot_ && w != app.domRoot2_) {
-          logger.debug(
-              new StringWriter()
-                  .append("ignoring: ")
-                  .append(ww.getId())
-                  .append(" (")
-                  .append("(fixme)")
-                  .append(") ")
-                  .append(w.getId())
-                  .append(" (")
-                  .append("(fixme)")
-                  .append(")")
-                  .toString());
-          depth = 0;
-        }
-        depthOrder.put(depth, ww);
-      }
-      for (Iterator<Map.Entry<Integer, WWidget>> i_it = depthOrder.entrySet().iterator();
-          i_it.hasNext(); ) {
-        Map.Entry<Integer, WWidget> i = i_it.next();
-        boolean j = this.updateMap_.contains(i.getValue());
-        if (j != false) {
-          WWidget w = i.getValue();
-          if (i.getKey() == 0) {
+      this.updateOrder_.clear();
+      this.updateMap_.sorted(app.domRoot_, app.domRoot2_, this.updateOrder_);
+      for (int i = 0; i < this.updateOrder_.size(); ++i) {
+        WWidget w = this.updateOrder_.get(i);
+        int depth = this.updateMap_.getDepth(w);
+        if (depth != -1) {
+          if (depth == 0) {
+            if (logger.isDebugEnabled()) {
+              logger.debug("ignoring: {}", w.getId());
+            }
             w.getWebWidget().propagateRenderOk();
             continue;
           }
-          logger.debug(
-              new StringWriter()
-                  .append("updating: ")
-                  .append(w.getId())
-                  .append(" (")
-                  .append("(fixme)")
-                  .append(")")
-                  .toString());
+          if (logger.isDebugEnabled()) {
+            logger.debug("updating: {}", w.getId());
+          }
           if (!this.learning_ && this.visibleOnly_) {
             if (w.isRendered()) {
               w.getSDomChanges(changes, app);
             } else {
-              logger.debug(new StringWriter().append("Ignoring: ").append(w.getId()).toString());
+              if (logger.isDebugEnabled()) {
+                logger.debug("Ignoring: {}", w.getId());
+              }
             }
           } else {
             w.getSDomChanges(changes, app);
           }
         }
       }
+      this.updateOrder_.clear();
     } while (!this.learning_ && this.moreUpdates_);
   }
 
@@ -1195,7 +1219,7 @@ class WebRenderer implements SlotLearnerInterface {
       final StringBuilder out, WApplication app, final WLinkedCssStyleSheet sheet) {
     out.append("Wt4_6_1")
         .append(".addStyleSheet('")
-        .append(sheet.getLink().resolveUrl(app))
+        .append(this.getStyleSheetUrl(sheet, app))
         .append("', '")
         .append(sheet.getMedia())
         .append("');\n ");
@@ -1214,7 +1238,7 @@ class WebRenderer implements SlotLearnerInterface {
     for (int i = (int) app.styleSheetsToRemove_.size() - 1; i > -1; --i) {
       out.append("Wt4_6_1")
           .append(".removeStyleSheet('")
-          .append(app.styleSheetsToRemove_.get(i).getLink().resolveUrl(app))
+          .append(this.getStyleSheetUrl(app.styleSheetsToRemove_.get(i), app))
           .append("');\n ");
       app.styleSheetsToRemove_.remove(0 + i);
     }
@@ -1283,7 +1307,7 @@ class WebRenderer implements SlotLearnerInterface {
   private void renderStyleSheet(
       final StringBuilder out, final WLinkedCssStyleSheet sheet, WApplication app) {
     out.append("<link href=\"");
-    DomElement.htmlAttributeValue(out, sheet.getLink().resolveUrl(app));
+    DomElement.htmlAttributeValue(out, this.getStyleSheetUrl(sheet, app));
     out.append("\" rel=\"stylesheet\" type=\"text/css\"");
     if (sheet.getMedia().length() != 0 && !sheet.getMedia().equals("all")) {
       out.append(" media=\"").append(sheet.getMedia()).append('"');
@@ -1291,6 +1315,67 @@ class WebRenderer implements SlotLearnerInterface {
     closeSpecial(out);
   }
 
+  private String getStyleSheetUrl(final WLinkedCssStyleSheet sheet, WApplication app) {
+    String url = sheet.getLink().resolveUrl(app);
+    if (!this.session_.getController().getConfiguration().isVersionedResources()
+        || sheet.getLink().getType() != LinkType.Url) {
+      return url;
+    }
+    String resourcesUrl = WApplication.getRelativeResourcesUrl();
+    String link = sheet.getLink().getUrl();
+    if (resourcesUrl.length() == 0 || !link.startsWith(resourcesUrl) || link.indexOf('?') != -1) {
+      return url;
+    }
+    String version =
+        this.session_.getController().getResourceVersion(link.substring(resourcesUrl.length()));
+    return version != null ? url + "?v=" + version : url;
+  }
+
+  private String getScriptLibraryUrl(boolean jquery) {
+    boolean ugly = this.session_.isUseUglyInternalPaths();
+    String key = WtServlet.getScriptLibraryKey(ugly, jquery);
+    WtServlet controller = this.session_.getController();
+    String version = controller.getScriptLibrary(key);
+    if (version == null) {
+      version = controller.addScriptLibrary(key, renderScriptLibrary(ugly, jquery));
+    }
+    String url = "";
+    if (this.session_.getApplicationName().length() == 0) {
+      url = this.session_.fixRelativeUrl(".");
+      url = url.substring(0, 0 + url.length() - 1);
+    } else {
+      url = this.session_.fixRelativeUrl(this.session_.getApplicationName());
+    }
+    return url + "?wtlib=" + version;
+  }
+
+  /**
+   * Renders the part of the main script which does not depend on the session, nor on the
+   * application.
+   */
+  static String renderScriptLibrary(boolean uglyInternalPaths, boolean jquery) {
+    StringBuilder out = new StringBuilder();
+    if (jquery) {
+      out.append("if (typeof window.$ === 'undefined') {");
+      out.append(WtServlet.JQuery_js);
+      out.append('}');
+    }
+    FileServe script = new FileServe(WtServlet.Wt_js);
+    script.setCondition("LIBRARY", true);
+    script.setCondition("SESSION", false);
+    script.setCondition("DYNAMIC_JS", false);
+    script.setCondition("UGLY_INTERNAL_PATHS", uglyInternalPaths);
+    script.setVar("WT_CLASS", "Wt4_6_1");
+    script.setVar("INNER_HTML", true);
+    script.setVar("CLOSE_CONNECTION", false);
+    try {
+      script.stream(out);
+    } catch (IOException e) {
+      throw new WtException("Could not render script library", e);
+    }
+    return out.toString();
+  }
+
   private String createFormObjectsList(WApplication app) {
     this.updateFormObjectsList(app);
     String result = "";
@@ -1349,13 +1434,14 @@ class WebRenderer implements SlotLearnerInterface {
       if (conf.isInlineCss()) {
         app.getStyleSheet().javaScriptUpdate(app, js, false);
       }
-      EscapeOStream sout = new EscapeOStream(js);
+      EscapeOStream sout = EscapeOStream.obtain(js);
       for (int i = 0; i < changes.size(); ++i) {
         changes.get(i).asJavaScript(sout, DomElement.Priority.Delete);
       }
       for (int i = 0; i < changes.size(); ++i) {
         changes.get(i).asJavaScript(sout, DomElement.Priority.Update);
       }
+      sout.release();
     } else {
       for (int i = 0; i < changes.size(); ++i) {}
     }
@@ -1468,6 +1554,14 @@ class WebRenderer implements SlotLearnerInterface {
       bootJs.setCondition("PROGRESS", hybrid && !this.session_.getEnv().hasAjax());
       bootJs.setCondition("DEFER_SCRIPT", true);
       bootJs.setCondition("WEBGL_DETECT", conf.isWebglDetect());
+      this.scriptLibraryLoaded_ = conf.isVersionedResources();
+      bootJs.setCondition("SCRIPT_LIBRARY", this.scriptLibraryLoaded_);
+      if (this.scriptLibraryLoaded_) {
+        this.scriptLibraryJQuery_ = !(hybrid && this.session_.getApp().isCustomJQuery());
+        bootJs.setVar(
+            "SCRIPT_LIBRARY_URL",
+            this.safeJsStringLiteral(this.getScriptLibraryUrl(this.scriptLibraryJQuery_)));
+      }
       String internalPath =
           hybrid
               ? this.session_.getApp().getInternalPath()
@@ -1475,7 +1569,114 @@ class WebRenderer implements SlotLearnerInterface {
       bootJs.setVar("INTERNAL_PATH", this.safeJsStringLiteral(internalPath));
       bootJs.stream(out);
     }
-    response.out().append(out.toString());
+    this.send(response, out);
+  }
+
+  private void compress(final WebResponse response, int size) {
+    int threshold = this.session_.getController().getConfiguration().getCompressionThreshold();
+    if (threshold >= 0 && size >= threshold && !response.isWebSocketMessage()) {
+      response.enableCompression();
+    }
+  }
+
+  private void send(final WebResponse response, final StringBuilder out) throws IOException {
+    final int length = out.length();
+    this.responseSize_ += length;
+    final Writer writer = response.out();
+    if (length <= SEND_CHUNK_SIZE) {
+      writer.append(out);
+      return;
+    }
+    char[] chunk = sendChunk_.get();
+    for (int i = 0; i < length; i += SEND_CHUNK_SIZE) {
+      int end = Math.min(i + SEND_CHUNK_SIZE, length);
+      out.getChars(i, end, chunk, 0);
+      writer.write(chunk, 0, end - i);
+    }
+  }
+
+  /**
+   * Renders what was added to the head while rendering the widget tree of a streamed page, after
+   * the head was already sent: style sheets, inline CSS rules, script libraries and the title.
+   */
+  private void renderStreamedHeadChanges(final StringBuilder out, WApplication app) {
+    final Configuration conf = this.session_.getController().getConfiguration();
+    int first = app.styleSheets_.size() - app.styleSheetsAdded_;
+    for (int i = first; i < app.styleSheets_.size(); ++i) {
+      this.renderStyleSheet(out, app.styleSheets_.get(i), app);
+    }
+    app.styleSheetsAdded_ = 0;
+    if (conf.isInlineCss()) {
+      StringBuilder css = new StringBuilder();
+      app.getStyleSheet().cssText(css, false);
+      if (css.length() != 0) {
+        out.append("<style type=\"text/css\">\n").append(css).append("</style>\n");
+      }
+    }
+    first = app.scriptLibraries_.size() - app.scriptLibrariesAdded_;
+    for (int i = first; i < app.scriptLibraries_.size(); ++i) {
+      out.append("<script src=");
+      DomElement.htmlAttributeValue(out, this.session_.fixRelativeUrl(app.scriptLibraries_.get(i).uri));
+      out.append("></script>\n");
+      this.beforeLoadJS_.append(app.scriptLibraries_.get(i).beforeLoadJS);
+    }
+    app.scriptLibrariesAdded_ = 0;
+    if (app.titleChanged_) {
+      out.append("<script>document.title=")
+          .append(WString.toWString(app.getTitle()).getJsStringLiteral())
+          .append(";</script>\n");
+    }
+  }
+
+  private void flush(final WebResponse response) throws IOException {
+    response.out().flush();
+    response.getOutputStream().flush();
+  }
+
+  /**
+   * Sends the page body to the response in chunks, as it is being rendered, when using
+   * streamed rendering.
+   */
+  private class StreamedOutput implements Appendable {
+    private final WebResponse response;
+    private final StringBuilder out;
+
+    StreamedOutput(final WebResponse response, final StringBuilder out) {
+      this.response = response;
+      this.out = out;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+      this.out.append(csq);
+      return this.sendFull();
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+      this.out.append(csq, start, end);
+      return this.sendFull();
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+      this.out.append(c);
+      return this.sendFull();
+    }
+
+    private Appendable sendFull() throws IOException {
+      if (this.out.length() >= SEND_CHUNK_SIZE) {
+        WebRenderer.this.send(this.response, this.out);
+        this.out.setLength(0);
+        WebRenderer.this.flush(this.response);
+      }
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return this.out.toString();
+    }
   }
 
   private void addResponseAckPuzzle(final StringBuilder out) {
@@ -1507,11 +1708,9 @@ class WebRenderer implements SlotLearnerInterface {
       }
     }
     ++this.expectedAckId_;
-    logger.debug(
-        new StringWriter()
-            .append("addResponseAckPuzzle: incremented expectedAckId to ")
-            .append(String.valueOf(this.expectedAckId_))
-            .toString());
+    if (logger.isDebugEnabled()) {
+      logger.debug("addResponseAckPuzzle: incremented expectedAckId to {}", this.expectedAckId_);
+    }
     out.append(this.session_.getApp().getJavaScriptClass())
         .append("._p_.response(")
         .append(this.expectedAckId_);
@@ -1702,7 +1901,8 @@ class WebRenderer implements SlotLearnerInterface {
     }
   }
 
-  private Set<WWidget> updateMap_;
+  private DirtyWidgetSet updateMap_;
+  private List<WWidget> updateOrder_;
   private boolean learning_;
   private boolean learningIncomplete_;
   private boolean moreUpdates_;
@@ -1761,7 +1961,7 @@ class WebRenderer implements SlotLearnerInterface {
     StringBuilder js = new StringBuilder();
     this.collectJS(js);
     String result = js.toString();
-    logger.debug(new StringWriter().append("learned: ").append(result).toString());
+    logger.debug("learned: {}", result);
     if (slot.getType() == SlotType.PreLearnStateless) {
       slot.undoTrigger();
       this.collectJS((StringBuilder) null);
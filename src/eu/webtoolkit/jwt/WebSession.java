@@ -44,7 +44,10 @@ class WebSession {
       WEnvironment env) {
     this.mutex_ = new ReentrantLock();
     this.eventQueueMutex_ = new ReentrantLock();
-    this.eventQueue_ = new LinkedList<ApplicationEvent>();
+    this.eventQueue_ =
+        new EventQueue(
+            controller.getConfiguration().getEventQueueSize(),
+            controller.getConfiguration().getEventQueueOverflow());
     this.type_ = type;
     this.favicon_ = favicon;
     this.state_ = WebSession.State.JustCreated;
@@ -80,7 +83,15 @@ class WebSession {
     this.newRecursiveEvent_ = null;
     this.updatesPendingEvent_ = this.mutex_.newCondition();
     this.updatesPending_ = false;
+    this.appStarted_ = this.mutex_.newCondition();
+    this.handlerReleased_ = this.mutex_.newCondition();
     this.triggerUpdate_ = false;
+    this.deferredPushes_ = 0;
+    this.pushRequested_ = 0;
+    this.lastPush_ = 0;
+    this.pushScheduled_ = false;
+    this.lastActivity_ = System.currentTimeMillis();
+    this.idleCachesReleased_ = false;
     this.embeddedEnv_ = new WEnvironment(this);
     this.app_ = null;
     this.debug_ = this.controller_.getConfiguration().debug();
@@ -504,10 +515,7 @@ class WebSession {
               if (signalE.equals("poll")
                   && ackState != WebRenderer.AckState.CorrectAck
                   && this.renderer_.isJsSynced()) {
-                logger.debug(
-                    new StringWriter()
-                        .append("Ignoring poll with incorrect ack -- was rescheduled in browser?")
-                        .toString());
+                logger.debug("Ignoring poll with incorrect ack -- was rescheduled in browser?");
                 handler.flushResponse();
                 return;
               }
@@ -544,12 +552,9 @@ class WebSession {
                     handler.setRequest((WebRequest) null, (WebResponse) null);
                   } else {
                     ++this.pollRequestsIgnored_;
-                    logger.debug(
-                        new StringWriter()
-                            .append("ignored poll request (#")
-                            .append(String.valueOf(this.pollRequestsIgnored_))
-                            .append(")")
-                            .toString());
+                    if (logger.isDebugEnabled()) {
+                      logger.debug("ignored poll request (#{})", this.pollRequestsIgnored_);
+                    }
                   }
                 } else {
                   this.pollRequestsIgnored_ = 0;
@@ -561,7 +566,7 @@ class WebSession {
                 }
               }
               if (handler.getRequest() != null) {
-                logger.debug(new StringWriter().append("signal: ").append(signalE).toString());
+                logger.debug("signal: {}", signalE);
                 try {
                   handler.nextSignal = -1;
                   this.notifySignal(event);
@@ -1107,12 +1112,9 @@ class WebSession {
   public void setState(WebSession.State state, int timeout) {
     if (this.state_ != WebSession.State.Dead) {
       this.state_ = state;
-      logger.debug(
-          new StringWriter()
-              .append("Setting to expire in ")
-              .append(String.valueOf(timeout))
-              .append("s")
-              .toString());
+      if (logger.isDebugEnabled()) {
+        logger.debug("Setting to expire in {}s", timeout);
+      }
     }
   }
 
@@ -1149,7 +1151,7 @@ class WebSession {
       this.request_ = request;
       this.response_ = response;
       this.killed_ = false;
-      session.getMutex().lock();
+      this.lock();
       this.init();
     }
 
@@ -1165,10 +1167,12 @@ class WebSession {
         case NoLock:
           break;
         case TakeLock:
-          session.getMutex().lock();
+          this.lock();
           break;
         case TryLock:
-          session.getMutex().tryLock();
+          if (session.getMutex().tryLock()) {
+            this.lockTime_ = System.nanoTime();
+          }
           break;
       }
       this.init();
@@ -1182,7 +1186,7 @@ class WebSession {
       this.request_ = null;
       this.response_ = null;
       this.killed_ = false;
-      session.getMutex().lock();
+      this.lock();
       this.init();
     }
 
@@ -1192,7 +1196,11 @@ class WebSession {
         if (this.session_.triggerUpdate_) {
           this.session_.pushUpdates();
         }
+        this.session_.handlerReleased_.signalAll();
         this.session_.getMutex().unlock();
+        if (this.lockTime_ != 0) {
+          this.getMetrics().sessionLockReleased(System.nanoTime() - this.lockTime_);
+        }
       }
       attachThreadToHandler(this.prevHandler_);
     }
@@ -1263,14 +1271,28 @@ class WebSession {
       this.prevHandler_ = attachThreadToHandler(this);
     }
 
+    private void lock() {
+      long start = System.nanoTime();
+      this.session_.getMutex().lock();
+      this.lockTime_ = System.nanoTime();
+      this.getMetrics().sessionLockAcquired(this.lockTime_ - start);
+    }
+
+    private Metrics getMetrics() {
+      return this.session_.getController().getConfiguration().getMetrics();
+    }
+
     private WebSession.Handler prevHandler_;
     private WebSession session_;
     private WebRequest request_;
     private WebResponse response_;
     private boolean killed_;
+    private long lockTime_;
   }
 
   public void handleRequest(final WebSession.Handler handler) throws IOException {
+    this.lastActivity_ = System.currentTimeMillis();
+    this.idleCachesReleased_ = false;
     try {
       final WebRequest request = handler.getRequest();
       String wtdE = request.getParameter("wtd");
@@ -1388,15 +1410,13 @@ class WebSession {
               && (requestE.equals("jsupdate")
                   || requestE.equals("jserror")
                   || requestE.equals("resource")))) {
-        logger.debug(
-            new StringWriter()
-                .append("CSRF: ")
-                .append(wtdE != null ? wtdE : "no wtd")
-                .append(" != ")
-                .append(this.sessionId_)
-                .append(", requestE: ")
-                .append(requestE != null ? requestE : "none")
-                .toString());
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "CSRF: {} != {}, requestE: {}",
+              wtdE != null ? wtdE : "no wtd",
+              this.sessionId_,
+              requestE != null ? requestE : "none");
+        }
         logger.warn(
             new StringWriter().append("secure:").append("CSRF prevention kicked in.").toString());
         this.serveError(403, handler, "Forbidden");
@@ -1449,15 +1469,39 @@ class WebSession {
                           this.env_.setInternalPath(internalPath);
                         }
                       }
+                      WPageCache pageCache = conf.getPageCache();
+                      String pageKey = null;
+                      if (pageCache != null && pageCache.isCacheable(this.env_)) {
+                        pageKey = pageCache.getKey(this.env_);
+                        WPageCache.Page page = pageCache.get(pageKey);
+                        if (page != null) {
+                          handler.getResponse().setContentType(page.getContentType());
+                          handler.getResponse().out().append(page.getContent());
+                          this.kill();
+                          break;
+                        }
+                      }
                       boolean forcePlain =
                           this.env_.agentIsSpiderBot() || !this.env_.agentSupportsAjax();
                       this.progressiveBoot_ =
                           !forcePlain && conf.progressiveBootstrap(this.env_.getInternalPath());
                       if (forcePlain || this.progressiveBoot_) {
+                        StringBuilder page = null;
+                        if (pageKey != null && forcePlain) {
+                          page = new StringBuilder();
+                          handler.getResponse().captureOutput(page);
+                        }
                         if (!this.start(handler.getResponse())) {
                           throw new WException("Could not start application.");
                         }
                         this.app_.notify(new WEvent(new WEvent.Impl(handler)));
+                        if (page != null
+                            && handler.getResponse().getStatus() == 200
+                            && this.app_ != null
+                            && !this.app_.hasQuit()) {
+                          pageCache.put(
+                              pageKey, handler.getResponse().getContentType(), page.toString());
+                        }
                         if (this.env_.agentIsSpiderBot()) {
                           this.kill();
                         } else {
@@ -1560,15 +1604,11 @@ class WebSession {
                           handler.getResponse().setContentType("text/css");
                           handler.flushResponse();
                         } else {
-                          int i = 0;
-                          final int MAX_TRIES = 1000;
-                          while (!(this.app_ != null) && i < MAX_TRIES) {
-                            this.mutex_.unlock();
-                            ThreadUtils.sleep(Duration.ofMillis(5));
-                            this.mutex_.lock();
-                            ++i;
+                          long remaining = BOOT_STYLE_TIMEOUT_NANOS;
+                          while (!(this.app_ != null) && !this.isDead() && remaining > 0) {
+                            remaining = this.appStarted_.awaitNanos(remaining);
                           }
-                          if (i < MAX_TRIES) {
+                          if (this.app_ != null) {
                             this.renderer_.serveLinkedCss(handler.getResponse());
                           }
                           handler.flushResponse();
@@ -1719,26 +1759,52 @@ class WebSession {
     }
   }
   // public void generateNewSessionId() ;
-  public void queueEvent(final ApplicationEvent event) {
+  public boolean queueEvent(final ApplicationEvent event) {
+    ApplicationEvent discarded = null;
     this.eventQueueMutex_.lock();
-    this.eventQueue_.addLast(event);
-    logger.debug(
-        new StringWriter()
-            .append("queueEvent(): ")
-            .append(String.valueOf(this.eventQueue_.size()))
-            .toString());
-    this.eventQueueMutex_.unlock();
+    try {
+      discarded = this.eventQueue_.add(event);
+      this.controller_
+          .getConfiguration()
+          .getMetrics()
+          .eventQueued(this.eventQueue_.size(), discarded != event);
+      if (logger.isDebugEnabled()) {
+        logger.debug("queueEvent(): {}", this.eventQueue_.size());
+      }
+    } finally {
+      this.eventQueueMutex_.unlock();
+    }
+    if (discarded != null && discarded.fallbackFunction != null) {
+      this.controller_.executePostTask(discarded.fallbackFunction);
+    }
+    return discarded != event;
+  }
+
+  int getQueuedEventCount() {
+    this.eventQueueMutex_.lock();
+    try {
+      return this.eventQueue_.size();
+    } finally {
+      this.eventQueueMutex_.unlock();
+    }
   }
 
   public void handleWebSocketMessage(final WebSession.Handler handler) throws IOException {
     WebRequest message = handler.getRequest();
     boolean closing = message.getContentLength() == 0;
     if (!closing) {
+      this.lastActivity_ = System.currentTimeMillis();
+      this.idleCachesReleased_ = false;
+      this.controller_.getConfiguration().getMetrics().webSocketMessageReceived();
       String connectedE = message.getParameter("connected");
       if (connectedE != null) {
         this.renderer_.ackUpdate(Integer.parseInt(connectedE));
         this.webSocketConnected_ = true;
         this.canWriteWebSocket_ = true;
+        if (handler.getResponse() instanceof WebSocketConnection && this.app_ != null) {
+          ((WebSocketConnection) handler.getResponse())
+              .setConnected(this.app_.getJavaScriptClass());
+        }
       }
       String wsRqIdE = message.getParameter("wsRqId");
       if (wsRqIdE != null) {
@@ -1747,7 +1813,7 @@ class WebSession {
       }
       String signalE = message.getParameter("signal");
       if (signalE != null && signalE.equals("ping")) {
-        logger.debug(new StringWriter().append("ws: handle ping").toString());
+        logger.debug("ws: handle ping");
         if (this.canWriteWebSocket_) {
           this.webSocket_.out().append("{}");
           this.webSocket_.flushBuffer();
@@ -1785,10 +1851,27 @@ class WebSession {
     }
   }
 
-  private void hibernate() {
-    if (this.app_ != null && this.app_.localizedStrings_ != null) {
-      this.app_.localizedStrings_.hibernate();
+  void releaseIdleCaches() {
+    if (this.app_ != null) {
+      if (this.app_.localizedStrings_ != null) {
+        this.app_.localizedStrings_.hibernate();
+      }
+      try {
+        this.app_.releaseIdleCaches();
+      } catch (final RuntimeException e) {
+        logger.error("Exception in WApplication::releaseIdleCaches(): {}", e.getMessage(), e);
+      }
     }
+    this.renderer_.releaseIdleCaches();
+    this.idleCachesReleased_ = true;
+  }
+
+  boolean isIdleCachesReleased() {
+    return this.idleCachesReleased_;
+  }
+
+  long getLastActivity() {
+    return this.lastActivity_;
   }
 
   private boolean resourceRequest(final WebRequest request) {
@@ -1819,7 +1902,7 @@ class WebSession {
 
   private ReentrantLock mutex_;
   private ReentrantLock eventQueueMutex_;
-  private LinkedList<ApplicationEvent> eventQueue_;
+  private EventQueue eventQueue_;
   private EntryPointType type_;
   private String favicon_;
   private WebSession.State state_;
@@ -1855,7 +1938,21 @@ class WebSession {
   private WEvent.Impl newRecursiveEvent_;
   private java.util.concurrent.locks.Condition updatesPendingEvent_;
   private boolean updatesPending_;
+  private java.util.concurrent.locks.Condition appStarted_;
+  private java.util.concurrent.locks.Condition handlerReleased_;
+  private static final long BOOT_STYLE_TIMEOUT_NANOS =
+      java.util.concurrent.TimeUnit.SECONDS.toNanos(5);
+  private static final long SCRIPT_YIELD_TIMEOUT_NANOS =
+      java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(1);
   private boolean triggerUpdate_;
+  private int deferredPushes_;
+  private long pushRequested_;
+  private long lastPush_;
+  private volatile boolean pushScheduled_;
+  private static final String PUSH_EVENT_KEY = WebSession.class.getName() + ".push";
+  private volatile long lastActivity_;
+  private volatile boolean idleCachesReleased_;
+  private static final int MAX_DEFERRED_PUSHES = 16;
   private WEnvironment embeddedEnv_;
   private WEnvironment env_;
   private WApplication app_;
@@ -1865,12 +1962,37 @@ class WebSession {
 
   void pushUpdates() {
     try {
-      logger.debug(new StringWriter().append("pushUpdates()").toString());
+      logger.debug("pushUpdates()");
       this.triggerUpdate_ = false;
       if (!(this.app_ != null) || !this.renderer_.isDirty()) {
-        logger.debug(new StringWriter().append("pushUpdates(): nothing to do").toString());
+        logger.debug("pushUpdates(): nothing to do");
+        this.deferredPushes_ = 0;
+        this.pushRequested_ = 0;
         return;
       }
+      long now = System.nanoTime();
+      if (this.pushRequested_ == 0) {
+        this.pushRequested_ = now;
+      }
+      final Configuration conf = this.controller_.getConfiguration();
+      long maxLatency =
+          java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(conf.getServerPushMaxLatency());
+      if (this.mutex_.hasQueuedThreads()
+          && this.deferredPushes_ < MAX_DEFERRED_PUSHES
+          && now - this.pushRequested_ < maxLatency) {
+        logger.debug("pushUpdates(): coalescing with queued request");
+        ++this.deferredPushes_;
+        this.triggerUpdate_ = true;
+        return;
+      }
+      long delay = this.getPushDelay(now, maxLatency);
+      if (delay > 0) {
+        logger.debug("pushUpdates(): throttled");
+        this.triggerUpdate_ = true;
+        this.schedulePush(delay);
+        return;
+      }
+      this.deferredPushes_ = 0;
       this.updatesPending_ = true;
       if (this.asyncResponse_ != null) {
         this.asyncResponse_.setResponseType(WebRequest.ResponseType.Update);
@@ -1878,11 +2000,11 @@ class WebSession {
         this.updatesPending_ = false;
         this.asyncResponse_.flush();
         this.asyncResponse_ = null;
+        this.pushed(now);
       } else {
         if (this.webSocket_ != null && this.webSocketConnected_) {
           if (this.webSocket_.isWebSocketMessagePending()) {
-            logger.debug(
-                new StringWriter().append("pushUpdates(): web socket message pending").toString());
+            logger.debug("pushUpdates(): web socket message pending");
             return;
           }
           if (this.canWriteWebSocket_) {
@@ -1890,17 +2012,80 @@ class WebSession {
             this.app_.notify(new WEvent(new WEvent.Impl(this.webSocket_)));
             this.updatesPending_ = false;
             this.webSocket_.flushBuffer();
+            this.pushed(now);
           }
         }
       }
       if (this.updatesPending_) {
-        logger.debug(new StringWriter().append("pushUpdates(): cannot write now").toString());
+        logger.debug("pushUpdates(): cannot write now");
         this.updatesPendingEvent_.signal();
       }
     } catch (IOException ioe) {
       logger.info("Ignoring exception {}", ioe.getMessage(), ioe);
     }
   }
+
+  private void pushed(long now) {
+    this.lastPush_ = now;
+    this.pushRequested_ = 0;
+    this.controller_.getConfiguration().getMetrics().pushSent();
+  }
+
+  private long getPushDelay(long now, long maxLatency) {
+    long interval =
+        java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(
+            this.controller_.getConfiguration().getServerPushInterval());
+    return getPushDelay(now, this.lastPush_, this.pushRequested_, interval, maxLatency);
+  }
+
+  static long getPushDelay(
+      long now, long lastPush, long pushRequested, long interval, long maxLatency) {
+    if (interval <= 0 || lastPush == 0) {
+      return 0;
+    }
+    long due = Math.min(lastPush + interval, pushRequested + maxLatency);
+    return Math.max(0, due - now);
+  }
+
+  private void schedulePush(long delay) {
+    if (this.pushScheduled_) {
+      return;
+    }
+    this.pushScheduled_ = true;
+    final WApplication app = this.app_;
+    final Runnable push =
+        new Runnable() {
+          public void run() {
+            WebSession.this.pushScheduled_ = false;
+          }
+        };
+    final Runnable retry =
+        new Runnable() {
+          public void run() {
+            WebSession.this.pushScheduled_ = false;
+            if (!WebSession.this.isDead()) {
+              WebSession.this.schedulePush(
+                  java.util.concurrent.TimeUnit.MILLISECONDS.toNanos(
+                      WebSession.this.controller_.getConfiguration().getServerPushInterval()));
+            }
+          }
+        };
+    this.controller_
+        .getHousekeeping()
+        .schedule(
+            new Runnable() {
+              public void run() {
+                WebSession.this.controller_.executePostTask(
+                    new Runnable() {
+                      public void run() {
+                        WebSession.this.controller_.post(app, PUSH_EVENT_KEY, push, retry);
+                      }
+                    });
+              }
+            },
+            delay,
+            java.util.concurrent.TimeUnit.NANOSECONDS);
+  }
   // private WResource  decodeResource(final String resourceId) ;
   private AbstractEventSignal decodeSignal(final String signalId, boolean checkExposed) {
     AbstractEventSignal result = this.app_.decodeExposedSignal(signalId);
@@ -1936,7 +2121,7 @@ class WebSession {
   }
 
   private void render(final WebSession.Handler handler) throws IOException {
-    logger.debug(new StringWriter().append("render()").toString());
+    logger.debug("render()");
     try {
       if (!this.env_.hasAjax()) {
         try {
@@ -1981,13 +2166,13 @@ class WebSession {
     }
     if (!handler.getRequest().isWebSocketMessage()) {
       if (handler.getResponse().getResponseType() == WebRequest.ResponseType.Script
-          && !(handler.getRequest().getParameter("skeleton") != null)) {
-        this.mutex_.unlock();
+          && !(handler.getRequest().getParameter("skeleton") != null)
+          && this.mutex_.hasQueuedThreads()) {
+        // Let a queued request (e.g. the boot style request) go first
         try {
-          ThreadUtils.sleep(Duration.ofMillis(1));
+          this.handlerReleased_.awaitNanos(SCRIPT_YIELD_TIMEOUT_NANOS);
         } catch (final InterruptedException e) {
         }
-        this.mutex_.lock();
       }
       this.renderer_.serveResponse(handler.getResponse());
     }
@@ -2084,7 +2269,7 @@ class WebSession {
       if (!(signalE != null)) {
         return;
       }
-      logger.debug(new StringWriter().append("signal: ").append(signalE).toString());
+      logger.debug("signal: {}", signalE);
       if (this.getType() != EntryPointType.WidgetSet
           || !signalE.equals("none") && !signalE.equals("load")) {
         this.renderer_.setRendered(true);
@@ -2266,6 +2451,10 @@ class WebSession {
       this.app_ = null;
       this.kill();
       throw e;
+    } finally {
+      if (this.mutex_.isHeldByCurrentThread()) {
+        this.appStarted_.signalAll();
+      }
     }
     return this.app_ != null;
   }
@@ -2322,15 +2511,10 @@ class WebSession {
   private ApplicationEvent getPopQueuedEvent() {
     this.eventQueueMutex_.lock();
     ApplicationEvent result = null;
-    logger.debug(
-        new StringWriter()
-            .append("popQueuedEvent(): ")
-            .append(String.valueOf(this.eventQueue_.size()))
-            .toString());
-    if (!this.eventQueue_.isEmpty()) {
-      result = this.eventQueue_.getFirst();
-      this.eventQueue_.removeFirst();
+    if (logger.isDebugEnabled()) {
+      logger.debug("popQueuedEvent(): {}", this.eventQueue_.size());
     }
+    result = this.eventQueue_.poll();
     this.eventQueueMutex_.unlock();
     return result;
   }
@@ -4,6 +4,7 @@
 package eu.webtoolkit.jwt;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.List;
@@ -19,20 +20,27 @@ import eu.webtoolkit.jwt.servlet.WebResponse;
 
 /**
  * A connection for a web socket, to generate responses
+ * <p>
+ * A response is rendered into memory, and is then sent asynchronously using a
+ * {@link WebSocketSendQueue}, so that a slow client never blocks the thread which holds the
+ * session lock.
  * @author raf
  */
 class WebSocketConnection extends WebResponse {
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
 	
-	private Writer outWriter;
+	private StringWriter outWriter;
 	private Session socketSession;
 	private Map<String, List<String>> headers;
 	private WebSession webSession;
+	private WebSocketSendQueue queue;
+	private volatile String javaScriptClass;
 	
 	public WebSocketConnection(final Session socketSession, Map<String, List<String>> headers) throws IOException {
 		super();
 		this.socketSession = socketSession;
 		this.headers = headers;
+		this.queue = new WebSocketSendQueue(socketSession);
 		this.socketSession.getUserProperties().put(WebSocketConnection.class.toString(), this);
 	}
 
@@ -72,21 +80,67 @@ class WebSocketConnection extends WebResponse {
 	}
 	
 	/**
-	 * Flush the buffer of the output stream, close it and forget about it
+	 * Queue the contents of the output buffer as a message, and forget about it
 	 * @see javax.servlet.ServletResponseWrapper#flushBuffer()
 	 */
 	@Override
 	public void flushBuffer() {
 		if (this.outWriter != null) {
-			try {
-				this.outWriter.close();
-				this.outWriter = null;
-			} catch (IOException e) {
-				logger.info("IOException in flush", e);
-			}
+			String message = this.outWriter.toString();
+			this.outWriter = null;
+			queue.send(message);
+			if (webSession != null)
+				webSession.getController().getConfiguration().getMetrics().webSocketMessageSent();
 		}
 	}
-	
+
+	/**
+	 * Returns whether server push updates should be deferred, because the client does not
+	 * keep up.
+	 */
+	@Override
+	public boolean isWebSocketMessagePending() {
+		return queue.isFull();
+	}
+
+	/**
+	 * Mark the connection as acknowledged by the client, after which pings are answered
+	 * without taking the session lock
+	 * @param javaScriptClass the JavaScript class of the application
+	 */
+	void setConnected(String javaScriptClass) {
+		this.javaScriptClass = javaScriptClass;
+	}
+
+	/**
+	 * Answer a ping from the client, without taking the session lock
+	 * <p>
+	 * The reply sets the interval for the next pings, which grows for an idle session.
+	 * @return whether the ping was answered, false if the connection was not yet acknowledged or
+	 * the session is dead
+	 * @see Configuration#setMaxPingInterval(int)
+	 */
+	boolean handlePing() {
+		String appClass = this.javaScriptClass;
+		if (appClass == null || webSession == null || webSession.isDead())
+			return false;
+
+		Configuration conf = webSession.getController().getConfiguration();
+		long idle = System.currentTimeMillis() - webSession.getLastActivity();
+		int interval = getPingInterval(conf.getServerPushTimeout() * 1000, conf.getMaxPingInterval() * 1000, idle);
+		queue.send(appClass + "._p_.setPingInterval(" + interval + ");");
+		conf.getMetrics().webSocketMessageSent();
+		return true;
+	}
+
+	/**
+	 * Compute the ping interval (in milliseconds) for a session which has been idle for some time:
+	 * half the idle time, but at least the base and at most the maximum interval
+	 */
+	static int getPingInterval(int base, int max, long idle) {
+		return (int) Math.max(base, Math.min(max, idle / 2));
+	}
+
 	@Override
 	public boolean isWebSocketMessage() {
 		return true;
@@ -102,13 +156,8 @@ class WebSocketConnection extends WebResponse {
 	
 	@Override
 	public Writer out() {
-		if (this.outWriter == null) {
-			try {
-				this.outWriter = this.socketSession.getBasicRemote().getSendWriter();
-			} catch (IOException e) {
-				logger.info("IOException retrieving out writer", e);
-			}
-		}
+		if (this.outWriter == null)
+			this.outWriter = new StringWriter();
 		return this.outWriter;
 	}
 	
@@ -172,5 +221,6 @@ class WebSocketConnection extends WebResponse {
 	 */
 	public void setWebSession(WebSession webSession) {
 		this.webSession = webSession;
+		this.queue.setWebSession(webSession);
 	}
 }
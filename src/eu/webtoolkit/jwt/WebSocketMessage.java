@@ -1,8 +1,12 @@
 package eu.webtoolkit.jwt;
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import eu.webtoolkit.jwt.servlet.UploadedFile;
 import eu.webtoolkit.jwt.servlet.WebRequest;
@@ -14,6 +18,7 @@ import eu.webtoolkit.jwt.servlet.WebResponse;
  */
 class WebSocketMessage extends WebRequest {
 	private String query;
+	private int contentLength = -1;
 	private WebSocketConnection socketConnection;
 
 	/**
@@ -28,6 +33,81 @@ class WebSocketMessage extends WebRequest {
 		this.socketConnection = socketConnection;
 	    readParameters(this.query.getBytes("UTF-8"));
 	}
+
+	/**
+	 * Decode a binary web socket message, adding some extra parameters
+	 * @param frame the message contents, see {@link #decode(ByteBuffer, Map)}
+	 * @param socketConnection the associated connection
+	 * @throws IOException when the frame is malformed
+	 */
+	public WebSocketMessage(ByteBuffer frame, WebSocketConnection socketConnection) throws IOException {
+		super(decode(frame, new HashMap<String, String[]>()), new HashMap<String, List<UploadedFile>>());
+		getParameterMap().put("wtd", new String[] { socketConnection.getParameter("wtd") });
+		getParameterMap().put("request", new String[] { "jsupdate" });
+		this.query = "";
+		this.contentLength = frame.limit();
+		this.socketConnection = socketConnection;
+	}
+
+	/**
+	 * Decode the parameters of a binary web socket message.
+	 * <p>
+	 * A binary message starts with a version byte (1), followed by the parameters: a key and
+	 * a value for each parameter, each encoded as its length in bytes (an unsigned LEB128
+	 * varint) followed by its UTF-8 encoding. Unlike a text message, the keys and values are
+	 * not URL encoded.
+	 * @param frame the message contents
+	 * @param parameters the map to which the parameters are added
+	 * @return the parameters
+	 * @throws IOException when the frame is malformed
+	 */
+	static Map<String, String[]> decode(ByteBuffer frame, Map<String, String[]> parameters) throws IOException {
+		try {
+			if (frame.get() != 1)
+				throw new IOException("Unsupported web socket frame version");
+
+			while (frame.hasRemaining()) {
+				String key = readString(frame);
+				String value = readString(frame);
+				if (!key.isEmpty())
+					parameters.put(key, new String[] { value });
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Truncated web socket frame");
+		}
+
+		String[] wtParams = parameters.get("Wt-params");
+		if (wtParams != null)
+			Utils.parseFormUrlEncoded(wtParams[0], parameters);
+
+		return parameters;
+	}
+
+	private static String readString(ByteBuffer frame) throws IOException {
+		int length = 0;
+		for (int shift = 0;; shift += 7) {
+			if (shift > 28)
+				throw new IOException("Malformed web socket frame");
+
+			int b = frame.get();
+			length |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				break;
+		}
+
+		if (length < 0 || length > frame.remaining())
+			throw new IOException("Truncated web socket frame");
+
+		if (!frame.hasArray()) {
+			byte[] bytes = new byte[length];
+			frame.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		String result = new String(frame.array(), frame.arrayOffset() + frame.position(), length, StandardCharsets.UTF_8);
+		frame.position(frame.position() + length);
+		return result;
+	}
 	
 	@Override
 	public boolean isWebSocketMessage() {
@@ -46,7 +126,7 @@ class WebSocketMessage extends WebRequest {
 	
 	@Override
 	public int getContentLength() {
-		return this.query.length();
+		return this.contentLength != -1 ? this.contentLength : this.query.length();
 	}
 	
 	/**
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2009 Emweb bv, Herent, Belgium.
+ *
+ * See the LICENSE file for terms of use.
+ */
+package eu.webtoolkit.jwt;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.websocket.CloseReason;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The queue of messages to be sent over a web socket.
+ * <p>
+ * Messages are sent asynchronously, one at a time. When the messages waiting behind the
+ * message in flight reach the {@link Configuration#setWebSocketHighWaterMark(int) high-water
+ * mark}, further messages are merged with the last waiting message, and server push updates
+ * are deferred until the queue has drained. When the client does not keep up at all, the
+ * connection is dropped.
+ */
+class WebSocketSendQueue {
+	private static final Logger logger = LoggerFactory.getLogger(WebSocketSendQueue.class);
+
+	private final Session socketSession;
+	private WebSession webSession;
+	private int highWaterMark = 256 * 1024;
+
+	private final Object queueLock = new Object();
+	private final Deque<String> queue = new ArrayDeque<String>();
+	private int queuedLength;
+	private boolean sending;
+	private boolean pushDeferred;
+	private boolean dropped;
+	private final SendHandler sendHandler = new SendHandler() {
+		@Override
+		public void onResult(SendResult result) {
+			sent(result);
+		}
+	};
+
+	WebSocketSendQueue(Session socketSession) {
+		this.socketSession = socketSession;
+	}
+
+	void setWebSession(WebSession webSession) {
+		this.webSession = webSession;
+		this.highWaterMark = webSession.getController().getConfiguration().getWebSocketHighWaterMark();
+	}
+
+	/**
+	 * Returns whether the messages waiting behind the message in flight reached the
+	 * high-water mark.
+	 * <p>
+	 * This is called before a server push update is rendered: the update is then deferred
+	 * until the queue has drained, at which point the session is triggered to push the
+	 * (accumulated) changes.
+	 */
+	boolean isFull() {
+		synchronized (queueLock) {
+			if (dropped || queuedLength < highWaterMark)
+				return false;
+
+			pushDeferred = true;
+			return true;
+		}
+	}
+
+	/**
+	 * Queues a message to be sent.
+	 * <p>
+	 * A message is always accepted when nothing is waiting to be sent, however large it is.
+	 * The connection is only dropped when the messages waiting behind the message in flight
+	 * grow beyond twice the high-water mark.
+	 */
+	void send(String message) {
+		boolean drop = false;
+
+		synchronized (queueLock) {
+			if (dropped)
+				return;
+
+			if (!sending)
+				sending = true;
+			else {
+				boolean backlog = !queue.isEmpty();
+
+				if (backlog && queuedLength >= highWaterMark) {
+					String last = queue.removeLast();
+					queuedLength -= last.length();
+					message = last + "\n;" + message;
+					if (webSession != null)
+						webSession.getController().getConfiguration().getMetrics().webSocketMessageMerged();
+				}
+
+				queue.addLast(message);
+				queuedLength += message.length();
+
+				if (backlog && queuedLength > 2 * highWaterMark) {
+					drop = dropped = true;
+					queue.clear();
+					queuedLength = 0;
+				} else
+					return;
+			}
+		}
+
+		if (drop)
+			drop();
+		else
+			sendNext(message);
+	}
+
+	private void sendNext(String message) {
+		try {
+			this.socketSession.getAsyncRemote().sendText(message, sendHandler);
+		} catch (RuntimeException e) {
+			logger.info("Exception sending web socket message: {}", e.getMessage());
+			sent(null);
+		}
+	}
+
+	private void sent(SendResult result) {
+		if (result != null && !result.isOK())
+			logger.info("Exception sending web socket message: {}", result.getException().getMessage());
+
+		boolean resume = false;
+		String next;
+		synchronized (queueLock) {
+			if (result == null || !result.isOK())
+				dropped = true;
+
+			if (dropped) {
+				queue.clear();
+				queuedLength = 0;
+				sending = false;
+				return;
+			}
+
+			next = queue.pollFirst();
+			if (next != null)
+				queuedLength -= next.length();
+			sending = next != null;
+
+			if (pushDeferred && queuedLength < highWaterMark) {
+				pushDeferred = false;
+				resume = true;
+			}
+		}
+
+		if (resume)
+			resumePush();
+
+		if (next != null)
+			sendNext(next);
+	}
+
+	/*
+	 * Triggers the session to push the updates that were deferred while the queue was full.
+	 */
+	private void resumePush() {
+		final WebSession session = this.webSession;
+		WApplication app = session != null ? session.getApp() : null;
+		if (app == null)
+			return;
+
+		session.getController().post(app, WebSocketSendQueue.class.getName(), new Runnable() {
+			@Override
+			public void run() {
+				session.setTriggerUpdate(true);
+			}
+		}, null);
+	}
+
+	private void drop() {
+		logger.info("Dropping web socket connection: the client does not keep up");
+		if (webSession != null)
+			webSession.getController().getConfiguration().getMetrics().webSocketDropped();
+
+		try {
+			this.socketSession.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Send queue overflow"));
+		} catch (IOException e) {
+			logger.info("IOException closing web socket", e);
+		}
+	}
+
+	/**
+	 * Returns the number of characters waiting behind the message in flight.
+	 */
+	int getQueuedLength() {
+		synchronized (queueLock) {
+			return queuedLength;
+		}
+	}
+}
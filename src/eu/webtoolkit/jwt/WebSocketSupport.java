@@ -1,6 +1,7 @@
 package eu.webtoolkit.jwt;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,12 @@ import eu.webtoolkit.jwt.WebSession.Handler;
 @ServerEndpoint(value = "/ws", configurator=JWtEndpointConfig.class)
 public class WebSocketSupport {
 	private static Logger logger = LoggerFactory.getLogger(WebSocketSupport.class);
+
+	/*
+	 * A keep-alive message, which is answered without taking the session lock once the
+	 * connection has been acknowledged.
+	 */
+	private static final String PING = "&signal=ping";
 	
 	/**
 	 * Get the web session via connection parameters
@@ -88,7 +95,40 @@ public class WebSocketSupport {
 			logger.info("WebSocket message discarded: could not retrieve web session");
 			return;
 		}
-		WebSocketMessage message = new WebSocketMessage(contents, connection);
+		if (contents.equals(PING) && connection.handlePing()) {
+			webSession.getController().getConfiguration().getMetrics().webSocketMessageReceived();
+			return;
+		}
+		handleMessage(webSession, connection, new WebSocketMessage(contents, connection));
+	}
+
+	/**
+	 * Is called when a binary web socket message arrives
+	 * @param session holds all state for this web socket session
+	 * @param contents the contents of the message
+	 * @throws IOException on error writing to the socket session
+	 * @see WebSocketMessage#decode(ByteBuffer, java.util.Map)
+	 */
+	@OnMessage
+	public void handleBinaryMessage(Session session, ByteBuffer contents) throws IOException {
+		WebSocketConnection connection = WebSocketConnection.getWebSocketConnection(session);
+		WebSession webSession = getWebSession(connection); 
+		if (webSession == null) {
+			logger.info("WebSocket message discarded: could not retrieve web session");
+			return;
+		}
+		WebSocketMessage message;
+		try {
+			message = new WebSocketMessage(contents, connection);
+		} catch (IOException e) {
+			logger.info("WebSocket message discarded: {}", e.getMessage());
+			return;
+		}
+		handleMessage(webSession, connection, message);
+	}
+
+	private void handleMessage(WebSession webSession, WebSocketConnection connection, WebSocketMessage message)
+			throws IOException {
 		Handler handler = new Handler(webSession, message, connection);
 		try {
 			webSession.handleWebSocketMessage(handler);
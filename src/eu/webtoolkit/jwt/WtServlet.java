@@ -18,6 +18,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
@@ -37,7 +47,6 @@ import eu.webtoolkit.jwt.servlet.WebRequest;
 import eu.webtoolkit.jwt.servlet.WebRequest.ProgressListener;
 import eu.webtoolkit.jwt.servlet.WebResponse;
 import eu.webtoolkit.jwt.utils.MathUtils;
-import eu.webtoolkit.jwt.utils.StreamUtils;
 
 /**
  * The abstract JWt servlet class.
@@ -84,8 +93,8 @@ public abstract class WtServlet extends HttpServlet {
 	private Configuration configuration;
 	private ProgressListener progressListener;
 	private Set<String> uploadProgressUrls_ = new HashSet<String>();
-	private int ajaxSessions = 0;
-	private Map<String,WebSession> sessions = new HashMap<String,WebSession>();
+	private SessionRegistry sessions = new SessionRegistry();
+	private BroadcastRegistry broadcasts = new BroadcastRegistry();
 
 	private String redirectSecret_;
 
@@ -93,9 +102,24 @@ public abstract class WtServlet extends HttpServlet {
 	private static final Map<String, String> mimeTypes = new HashMap<String, String>();
 	
 	private List<WResource> staticResources = new ArrayList<WResource>();
+	private StaticFileCache staticFiles = new StaticFileCache(new StaticFileCache.Loader() {
+		@Override
+		public InputStream open(String fileName) throws IOException {
+			return getResourceStream(fileName);
+		}
+	});
+
+	private ConcurrentMap<String, String> scriptLibraries = new ConcurrentHashMap<String, String>();
 
 	private int idForWebSocket = -1;
 
+	private volatile ScheduledExecutorService housekeeping = null;
+	private volatile Executor postExecutor = null;
+
+	private static final int POST_BATCH_SIZE = 64;
+	private static final String SCRIPT_LIBRARY_PREFIX = "wt-script-library/";
+	private static final String SCRIPT_LIBRARY_MIME_TYPE = "text/javascript; charset=UTF-8";
+
 	static final String Boot_html;
 	static final String Plain_html;
 	static final String Wt_js;
@@ -120,6 +144,9 @@ public abstract class WtServlet extends HttpServlet {
 		Boot_js = readFile("/eu/webtoolkit/jwt/skeletons/Boot.min.js");
 		JQuery_js = readFile("/eu/webtoolkit/jwt/skeletons/jquery.min.js");
 
+		for (String skeleton : new String[] { Boot_html, Plain_html, Hybrid_html, Wt_js, Boot_js })
+			FileServe.compile(skeleton);
+
 		String[][] mimeTypes = {
 				{ "css", "text/css" },
 				{ "gif", "image/gif" },
@@ -127,6 +154,12 @@ public abstract class WtServlet extends HttpServlet {
 				{ "html", "text/html" },
 				{ "jpg", "image/jpeg" },
 				{ "png", "image/png" },
+				{ "svg", "image/svg+xml" },
+				{ "ico", "image/x-icon" },
+				{ "json", "application/json" },
+				{ "woff", "font/woff" },
+				{ "woff2", "font/woff2" },
+				{ "ttf", "font/ttf" },
 				{ "js", "text/javascript" } 
 			};
 
@@ -189,6 +222,117 @@ public abstract class WtServlet extends HttpServlet {
 			if (this.idForWebSocket < 0)
 				this.idForWebSocket = WebSocketRegistry.getInstance().addServlet(this);
 		}
+
+		addScriptLibraries();
+		startHousekeeping();
+		if (getConfiguration().getPostExecutor() == null)
+			startPostExecutor();
+
+		int idleCacheReleaseTimeout = getConfiguration().getIdleCacheReleaseTimeout();
+		if (idleCacheReleaseTimeout > 0) {
+			long period = Math.max(1, idleCacheReleaseTimeout / 4);
+			getHousekeeping().scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					releaseIdleSessionCaches();
+				}
+			}, period, period, TimeUnit.SECONDS);
+		}
+
+		if (getConfiguration().isWarmUpEnabled())
+			new WarmUp(this).run();
+	}
+
+	/**
+	 * Stops the background tasks of this servlet.
+	 * 
+	 * If you want to override this function, make sure to call the super function.
+	 */
+	@Override
+	public void destroy() {
+		synchronized (this) {
+			if (housekeeping != null) {
+				housekeeping.shutdownNow();
+				housekeeping = null;
+			}
+			if (postExecutor instanceof ExecutorService) {
+				((ExecutorService) postExecutor).shutdown();
+				postExecutor = null;
+			}
+		}
+
+		super.destroy();
+	}
+
+	/*
+	 * The executors are started by init(), so that using them does not need the servlet's
+	 * monitor. They are only started on first use by a servlet that was not initialized,
+	 * e.g. in a test.
+	 */
+	ScheduledExecutorService getHousekeeping() {
+		ScheduledExecutorService result = housekeeping;
+		return result != null ? result : startHousekeeping();
+	}
+
+	Executor getPostExecutor() {
+		Executor result = getConfiguration().getPostExecutor();
+		if (result == null)
+			result = postExecutor;
+		return result != null ? result : startPostExecutor();
+	}
+
+	private synchronized ScheduledExecutorService startHousekeeping() {
+		if (housekeeping == null)
+			housekeeping = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("jwt-housekeeping"));
+
+		return housekeeping;
+	}
+
+	private synchronized Executor startPostExecutor() {
+		if (postExecutor == null)
+			postExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+					new DaemonThreadFactory("jwt-post"));
+
+		return postExecutor;
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private final String name;
+		private final AtomicInteger count = new AtomicInteger();
+
+		DaemonThreadFactory(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	void releaseIdleSessionCaches() {
+		long idleSince = System.currentTimeMillis() - getConfiguration().getIdleCacheReleaseTimeout() * 1000L;
+
+		for (WebSession session : sessions.getSessions()) {
+			if (session.isIdleCachesReleased() || session.getLastActivity() > idleSince)
+				continue;
+
+			WebSession.Handler handler = null;
+			try {
+				handler = new WebSession.Handler(session, WebSession.Handler.LockOption.TryLock);
+				if (handler.isHaveLock() && !session.isDead() && session.getLastActivity() <= idleSince) {
+					session.releaseIdleCaches();
+					logger.debug("Released idle caches of session {}", session.getSessionId());
+				}
+			} catch (Exception e) {
+				logger.info("Exception releasing idle caches of session {}", session.getSessionId(), e);
+			} finally {
+				if (handler != null)
+					handler.release();
+			}
+		}
 	}
 
 	void handleRequest(final HttpServletRequest request, final HttpServletResponse response) {
@@ -224,8 +368,24 @@ public abstract class WtServlet extends HttpServlet {
 			}
 		}
 
+		boolean get = "GET".equals(request.getMethod());
+		String scriptLibrary = get ? request.getParameter("wtlib") : null;
+		if (scriptLibrary != null) {
+			try {
+				if (!scriptLibrary.matches("[0-9a-f]+")
+						|| !staticFiles.serve(request, response, SCRIPT_LIBRARY_PREFIX + scriptLibrary,
+								SCRIPT_LIBRARY_MIME_TYPE, scriptLibrary))
+					response.setStatus(404);
+			} catch (IOException e) {
+				response.setStatus(500);
+				logger.info("IOException serving script library {}", scriptLibrary, e);
+			}
+
+			return;
+		}
+
 		if (pathInfo != null && (pathInfo.startsWith(resourcePath) || pathInfo.equals(configuration.getFavicon()))) {
-			logger.debug("serving static file: " + pathInfo);
+			logger.debug("serving static file: {}", pathInfo);
 
 			String fileName = "wt-resources/";
 
@@ -237,19 +397,12 @@ public abstract class WtServlet extends HttpServlet {
 
 			fileName += pathInfo;
 			try {
-				InputStream s = getResourceStream(fileName);
-				if (s != null) {
-					String suffix = fileName.substring(fileName.lastIndexOf('.') + 1);
-					String mimeType = mimeTypes.get(suffix);
-					if (mimeType != null)
-						response.setContentType(mimeType);
-					else
-						response.setContentType("application/octet-stream");
-					StreamUtils.copy(s, response.getOutputStream());
-					response.getOutputStream().flush();
-				} else {
+				String suffix = fileName.substring(fileName.lastIndexOf('.') + 1);
+				String mimeType = mimeTypes.get(suffix);
+				if (mimeType == null)
+					mimeType = "application/octet-stream";
+				if (!staticFiles.serve(request, response, fileName, mimeType, get ? request.getParameter("v") : null))
 					response.setStatus(404);
-				}
 			} catch (FileNotFoundException e) {
 				response.setStatus(404);
 				logger.info("File not found: {}", fileName, e);
@@ -318,27 +471,56 @@ public abstract class WtServlet extends HttpServlet {
 	 */
 	public abstract WApplication createApplication(WEnvironment env);
 
-	synchronized int addSession(WebSession session) {
-		sessions.put(session.getSessionId(), session);
-		return sessions.size();
+	int addSession(WebSession session) {
+		int result = sessions.add(session);
+		sessionCountChanged();
+		return result;
 	}
 
-	synchronized void newAjaxSession() {
-		++ajaxSessions;
+	void newAjaxSession() {
+		sessions.newAjaxSession();
+		sessionCountChanged();
 	}
 
-	synchronized int removeSession(WebSession session) {
-		if (session.getEnv().hasAjax())
-			--ajaxSessions;
-		sessions.remove(session.getSessionId());
-		return sessions.size();
+	int removeSession(WebSession session) {
+		int result = sessions.remove(session);
+		broadcasts.remove(session);
+		sessionCountChanged();
+		return result;
 	}
-	
 
-	synchronized void removeSession(String sessionId) {
+	void removeSession(String sessionId) {
 		WebSession session = sessions.get(sessionId);
+		sessions.remove(sessionId);
 		if (session != null)
-			removeSession(session);
+			broadcasts.remove(session);
+		sessionCountChanged();
+	}
+
+	private void sessionCountChanged() {
+		getConfiguration().getMetrics().sessionCountChanged(sessions.getSessionCount(), sessions.getAjaxSessionCount());
+	}
+
+	/**
+	 * Returns the number of currently active sessions.
+	 * <p>
+	 * This does not block, and may be called from any thread.
+	 * 
+	 * @return the number of active sessions.
+	 */
+	public int getSessionCount() {
+		return sessions.getSessionCount();
+	}
+
+	/**
+	 * Returns the number of currently active sessions that use Ajax.
+	 * <p>
+	 * This does not block, and may be called from any thread.
+	 * 
+	 * @return the number of active Ajax sessions.
+	 */
+	public int getAjaxSessionCount() {
+		return sessions.getAjaxSessionCount();
 	}
 
 	/*
@@ -372,7 +554,9 @@ public abstract class WtServlet extends HttpServlet {
 				jsession.setAttribute(WtServlet.WT_WEBSESSION_ID, new BoundSession(wsession));
 			}
 	
-			logger.debug("Handling: (" + jsession.getId() + "): " + request.getRequestURI() + " " + request.getMethod() + " " + request.getScriptName() + " " + request.getPathInfo() + " " + request.getQueryString());
+			if (logger.isDebugEnabled())
+				logger.debug("Handling: ({}): {} {} {} {} {}", jsession.getId(), request.getRequestURI(),
+						request.getMethod(), request.getScriptName(), request.getPathInfo(), request.getQueryString());
 			
 			WebSession.Handler handler = null;
 			try {
@@ -490,37 +674,208 @@ public abstract class WtServlet extends HttpServlet {
 	 * it is releasing the lock. Multiple posted events to the same session are thus guaranteed to
 	 * be run sequentially in the order they were posted.
 	 * 
+	 * <p>
+	 * The number of events that may be pending for a session is limited, see
+	 * {@link Configuration#setEventQueueSize(int)}.
+	 * 
 	 * @param app the application instance which needs to be locked
 	 * @param function the task to be run
-	 * @param fallBackFunction the task to be run in case the application has been quit or its session expired.
+	 * @param fallBackFunction the task to be run in case the application has been quit or its session expired,
+	 *        or the task was discarded because the session's event queue is full (see
+	 *        {@link Configuration#setEventQueueOverflow(Configuration.EventQueueOverflow)}).
+	 * @see #tryPost(WApplication, String, Runnable, Runnable)
 	 */
 	public void post(WApplication app, Runnable function, Runnable fallBackFunction) {
+		tryPost(app, null, function, fallBackFunction);
+	}
+
+	/**
+	 * Posts a task to be run within the scope of a session, coalescing it with pending tasks.
+	 * <p>
+	 * This is like {@link #post(WApplication, Runnable, Runnable)}, but when the
+	 * {@link Configuration.EventQueueOverflow#Coalesce} policy is configured, a task that is still pending
+	 * for the session with the same key is replaced by this task. This is useful for tasks that only
+	 * need to reflect the latest state (e.g. a price tick).
+	 * 
+	 * @param app the application instance which needs to be locked
+	 * @param key the key identifying tasks that may be coalesced, or <code>null</code>
+	 * @param function the task to be run
+	 * @param fallBackFunction the task to be run in case the application has been quit or its session expired,
+	 *        or the task was discarded because the session's event queue is full (see
+	 *        {@link Configuration#setEventQueueOverflow(Configuration.EventQueueOverflow)}).
+	 */
+	public void post(WApplication app, String key, Runnable function, Runnable fallBackFunction) {
+		tryPost(app, key, function, fallBackFunction);
+	}
+
+	/**
+	 * Posts a task to be run within the scope of a session, and returns whether it was queued.
+	 * <p>
+	 * This is like {@link #post(WApplication, String, Runnable, Runnable)}, but lets the caller
+	 * know when the task was rejected because the session's event queue is full (with the
+	 * {@link Configuration.EventQueueOverflow#Reject} policy). The fallback function is run
+	 * in that case too.
+	 *
+	 * @param app the application instance which needs to be locked
+	 * @param key the key identifying tasks that may be coalesced, or <code>null</code>
+	 * @param function the task to be run
+	 * @param fallBackFunction the task to be run in case the application has been quit or its session expired,
+	 *        or the task was discarded because the session's event queue is full (see
+	 *        {@link Configuration#setEventQueueOverflow(Configuration.EventQueueOverflow)}).
+	 * @return whether the task was queued, <code>false</code> if it was rejected.
+	 */
+	public boolean tryPost(WApplication app, String key, Runnable function, Runnable fallBackFunction) {
 		WebSession wsession = app.getSession();
-		wsession.queueEvent(new ApplicationEvent(wsession.getSessionId(), function, fallBackFunction));
-		WebSession.Handler handler = null;
-		try {
-			handler = new WebSession.Handler(wsession, WebSession.Handler.LockOption.TryLock);
-		} finally {
-			handler.release();
-		}
+		if (!wsession.queueEvent(new ApplicationEvent(wsession.getSessionId(), key, function, fallBackFunction)))
+			return false;
+
+		processQueuedEvents(wsession);
+		return true;
 	}
 
 	/**
 	 * Posts a task to be run within the scope of all currently active sessions.
+	 * <p>
+	 * The task is queued on every session from the calling thread, and is then run in batches of sessions
+	 * on the {@link Configuration#setPostExecutor(Executor) post executor}.
 	 *
-	 * @see post
+	 * @see #post(WApplication, Runnable, Runnable)
 	 * @param function the task to be run
 	 */
 	public void postAll(Runnable function) {
-		for (WebSession session : sessions.values()) {
-			session.queueEvent(new ApplicationEvent(session.getSessionId(), function));
-			WebSession.Handler handler = null;
-			try {
-				handler = new WebSession.Handler(session, WebSession.Handler.LockOption.TryLock);
-			} finally {
-				handler.release();
+		List<WebSession> batch = new ArrayList<WebSession>(POST_BATCH_SIZE);
+
+		for (WebSession session : sessions.getSessions()) {
+			if (!session.queueEvent(new ApplicationEvent(session.getSessionId(), function)))
+				continue;
+
+			batch.add(session);
+			if (batch.size() == POST_BATCH_SIZE) {
+				dispatchQueuedEvents(batch);
+				batch = new ArrayList<WebSession>(POST_BATCH_SIZE);
+			}
+		}
+
+		if (!batch.isEmpty())
+			dispatchQueuedEvents(batch);
+	}
+
+	private void dispatchQueuedEvents(final List<WebSession> batch) {
+		executePostTask(new Runnable() {
+			@Override
+			public void run() {
+				for (WebSession session : batch)
+					processQueuedEvents(session);
+			}
+		});
+	}
+
+	void executePostTask(Runnable task) {
+		try {
+			getPostExecutor().execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Subscribes an application to a broadcast topic.
+	 * <p>
+	 * The listener is called, within the scope of the application's session (and using the
+	 * session lock), for every payload that is {@link #publish(BroadcastTopic, Object) published} to the
+	 * topic. Like for a task which is {@link #post(WApplication, Runnable, Runnable) posted}, the
+	 * listener should call {@link WApplication#triggerUpdate()} to push the changes it makes.
+	 * <p>
+	 * An application may add several listeners to the same topic. The subscriptions of a
+	 * session are removed when the session ends.
+	 *
+	 * @param app the application which subscribes
+	 * @param topic the topic
+	 * @param listener the listener
+	 */
+	public <T> void subscribe(WApplication app, BroadcastTopic<T> topic, Signal1.Listener<? super T> listener) {
+		broadcasts.subscribe(topic, app.getSession(), listener);
+	}
+
+	/**
+	 * Unsubscribes an application from a broadcast topic.
+	 * <p>
+	 * This removes all the listeners the application added to the topic.
+	 *
+	 * @param app the application which unsubscribes
+	 * @param topic the topic
+	 */
+	public void unsubscribe(WApplication app, BroadcastTopic<?> topic) {
+		broadcasts.unsubscribe(topic, app.getSession());
+	}
+
+	/**
+	 * Publishes a payload to the sessions which subscribed to a topic.
+	 * <p>
+	 * Unlike {@link #postAll(Runnable)}, only the sessions which subscribed to the topic are
+	 * involved. The same payload is passed to every listener: it should thus be prepared
+	 * (e.g. parsed or formatted) once before it is published, and not be modified by the
+	 * listeners.
+	 * <p>
+	 * Like {@link #postAll(Runnable)}, the delivery is queued on every subscribed session from the
+	 * calling thread, and the queued events are then run in batches of sessions on the
+	 * {@link Configuration#setPostExecutor(Executor) post executor}. A session which is
+	 * currently locked runs the listeners when its lock is released.
+	 *
+	 * @param topic the topic
+	 * @param payload the payload
+	 * @return the number of sessions on which the delivery was queued. This is less than the
+	 *         number of subscribers when the event queue of a session is full.
+	 */
+	public <T> int publish(final BroadcastTopic<T> topic, final T payload) {
+		int count = 0;
+		List<WebSession> batch = new ArrayList<WebSession>(POST_BATCH_SIZE);
+
+		for (final WebSession session : broadcasts.getSubscribers(topic)) {
+			Runnable function = new Runnable() {
+				@Override
+				public void run() {
+					for (Signal1.Listener<Object> listener : broadcasts.getListeners(topic, session))
+						listener.trigger(payload);
+				}
+			};
+
+			if (!session.queueEvent(new ApplicationEvent(session.getSessionId(), function)))
+				continue;
+
+			++count;
+			batch.add(session);
+			if (batch.size() == POST_BATCH_SIZE) {
+				dispatchQueuedEvents(batch);
+				batch = new ArrayList<WebSession>(POST_BATCH_SIZE);
 			}
 		}
+
+		if (!batch.isEmpty())
+			dispatchQueuedEvents(batch);
+
+		return count;
+	}
+
+	/**
+	 * Returns the number of sessions which subscribed to a topic.
+	 */
+	public int getSubscriberCount(BroadcastTopic<?> topic) {
+		return broadcasts.getSubscribers(topic).size();
+	}
+
+	/*
+	 * Runs the events queued for the session, if its lock is available. Otherwise,
+	 * the thread currently holding the lock runs them when releasing it.
+	 */
+	private static void processQueuedEvents(WebSession session) {
+		WebSession.Handler handler = null;
+		try {
+			handler = new WebSession.Handler(session, WebSession.Handler.LockOption.TryLock);
+		} finally {
+			if (handler != null)
+				handler.release();
+		}
 	}
 
     boolean limitPlainHtmlSessions() {
@@ -535,6 +890,70 @@ public abstract class WtServlet extends HttpServlet {
 			return result;
 	}
 	
+	/*
+	 * Adds every variant of the script library, so that any node of a cluster (or a restarted
+	 * node) serves the library that a page rendered by another node refers to.
+	 */
+	private void addScriptLibraries() {
+		for (boolean ugly : new boolean[] { false, true })
+			for (boolean jquery : new boolean[] { false, true })
+				addScriptLibrary(getScriptLibraryKey(ugly, jquery), WebRenderer.renderScriptLibrary(ugly, jquery));
+	}
+
+	static String getScriptLibraryKey(boolean uglyInternalPaths, boolean jquery) {
+		return (uglyInternalPaths ? "ugly" : "") + (jquery ? "jquery" : "");
+	}
+
+	/**
+	 * Returns the version of a script library, or <code>null</code> if it has not yet been
+	 * added.
+	 *
+	 * @see #addScriptLibrary(String, String)
+	 */
+	String getScriptLibrary(String key) {
+		return scriptLibraries.get(key);
+	}
+
+	/**
+	 * Adds a script library, which is served with a content-hashed URL.
+	 * <p>
+	 * The library is served for requests with a <code>wtlib</code> parameter set to the
+	 * returned version.
+	 *
+	 * @param key a key that identifies the library
+	 * @param content the script
+	 * @return the version of the script
+	 */
+	String addScriptLibrary(String key, String content) {
+		try {
+			String version = staticFiles.putVersioned(SCRIPT_LIBRARY_PREFIX, content.getBytes("UTF-8"),
+					SCRIPT_LIBRARY_MIME_TYPE);
+			scriptLibraries.put(key, version);
+			return version;
+		} catch (IOException e) {
+			throw new WtException("Could not add script library", e);
+		}
+	}
+
+	/**
+	 * Returns the version of a file in the resources folder, or <code>null</code> if it does
+	 * not exist.
+	 */
+	String getResourceVersion(String fileName) {
+		String suffix = fileName.substring(fileName.lastIndexOf('.') + 1);
+		String mimeType = mimeTypes.get(suffix);
+		if (mimeType == null)
+			mimeType = "application/octet-stream";
+
+		try {
+			StaticFileCache.Entry entry = staticFiles.get("wt-resources/" + fileName, mimeType);
+			return entry != null ? entry.getVersion() : null;
+		} catch (IOException e) {
+			logger.info("IOException: {}", fileName, e);
+			return null;
+		}
+	}
+
 	private InputStream getResourceStream(final String fileName) throws IOException {
 		return FileUtils.getResourceAsStream("/eu/webtoolkit/jwt/" + fileName);
 	}
@@ -1486,13 +1486,7 @@ public class WAxis {
                 max = new WDate(new Date((long) (long) s.renderMaximum));
               }
             }
-            logger.debug(
-                new StringWriter()
-                    .append("Range: ")
-                    .append(min.toString())
-                    .append(", ")
-                    .append(max.toString())
-                    .toString());
+            logger.debug("Range: {}, {}", min, max);
             if (daysInterval > 200) {
               s.dateTimeRenderUnit = DateTimeUnit.Years;
               interval = Math.max(1, (int) round125(daysInterval / 365));
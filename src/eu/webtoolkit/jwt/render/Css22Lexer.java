@@ -0,0 +1,587 @@
+// Generated from src/eu/webtoolkit/jwt/render/Css22.g4 by ANTLR 4.7.2
+package eu.webtoolkit.jwt.render;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class Css22Lexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.7.2", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		WSP=1, COMMENT=2, BADCOMMENT=3, CDO=4, CDC=5, INCLUDES=6, DASHMATCH=7, 
+		STRING=8, BADSTRING=9, IDENT=10, HASH=11, IMPORT_SYM=12, PAGE_SYM=13, 
+		MEDIA_SYM=14, CHARSET_SYM=15, IMPORTANT_SYM=16, EMS=17, EXS=18, LENGTH=19, 
+		ANGLE=20, TIME=21, FREQ=22, DIMENSION=23, PERCENTAGE=24, NUMBER=25, URI=26, 
+		BADURI=27, FUNCTION=28, ASTERISK=29, EQ=30, DOT=31, PLUS=32, GT=33, SLASH=34, 
+		COMMA=35, COLON=36, SEMICOLON=37, LPAREN=38, RPAREN=39, LBRACE=40, RBRACE=41, 
+		LBRACKET=42, RBRACKET=43;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"HEX", "NONASCII", "UNICODE", "ESCAPE", "NMSTART", "NMCHAR", "STRING1", 
+			"STRING2", "BADSTRING1", "BADSTRING2", "BADCOMMENT1", "BADCOMMENT2", 
+			"BADURI1", "BADURI2", "BADURI3", "NAME", "NUM", "URL", "SP", "WS", "NL", 
+			"A", "C", "D", "E", "G", "H", "I", "K", "L", "M", "N", "O", "P", "R", 
+			"S", "T", "U", "X", "Z", "WSP", "COMMENT", "BADCOMMENT", "CDO", "CDC", 
+			"INCLUDES", "DASHMATCH", "STRING", "BADSTRING", "IDENT", "HASH", "IMPORT_SYM", 
+			"PAGE_SYM", "MEDIA_SYM", "CHARSET_SYM", "IMPORTANT_SYM", "EMS", "EXS", 
+			"LENGTH", "ANGLE", "TIME", "FREQ", "DIMENSION", "PERCENTAGE", "NUMBER", 
+			"URI", "BADURI", "FUNCTION", "ASTERISK", "EQ", "DOT", "PLUS", "GT", "SLASH", 
+			"COMMA", "COLON", "SEMICOLON", "LPAREN", "RPAREN", "LBRACE", "RBRACE", 
+			"LBRACKET", "RBRACKET"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, null, null, null, "'<!--'", "'-->'", "'~='", "'|='", null, null, 
+			null, null, null, null, null, "'@charset'", null, null, null, null, null, 
+			null, null, null, null, null, null, null, null, "'*'", "'='", "'.'", 
+			"'+'", "'>'", "'/'", "','", "':'", "';'", "'('", "')'", "'{'", "'}'", 
+			"'['", "']'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "WSP", "COMMENT", "BADCOMMENT", "CDO", "CDC", "INCLUDES", "DASHMATCH", 
+			"STRING", "BADSTRING", "IDENT", "HASH", "IMPORT_SYM", "PAGE_SYM", "MEDIA_SYM", 
+			"CHARSET_SYM", "IMPORTANT_SYM", "EMS", "EXS", "LENGTH", "ANGLE", "TIME", 
+			"FREQ", "DIMENSION", "PERCENTAGE", "NUMBER", "URI", "BADURI", "FUNCTION", 
+			"ASTERISK", "EQ", "DOT", "PLUS", "GT", "SLASH", "COMMA", "COLON", "SEMICOLON", 
+			"LPAREN", "RPAREN", "LBRACE", "RBRACE", "LBRACKET", "RBRACKET"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public Css22Lexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "Css22.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\2-\u0462\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\3\2\3\2\3\3\3\3\3\4\3\4\5\4\u00b0\n\4\3\4\5\4\u00b3\n\4\3\4\5\4\u00b6"+
+		"\n\4\3\4\5\4\u00b9\n\4\3\4\5\4\u00bc\n\4\3\4\3\4\3\4\3\4\5\4\u00c2\n\4"+
+		"\3\5\3\5\3\5\5\5\u00c7\n\5\3\6\3\6\3\6\5\6\u00cc\n\6\3\7\3\7\3\7\5\7\u00d1"+
+		"\n\7\3\b\3\b\3\b\3\b\3\b\7\b\u00d8\n\b\f\b\16\b\u00db\13\b\3\b\3\b\3\t"+
+		"\3\t\3\t\3\t\3\t\7\t\u00e4\n\t\f\t\16\t\u00e7\13\t\3\t\3\t\3\n\3\n\3\n"+
+		"\3\n\3\n\7\n\u00f0\n\n\f\n\16\n\u00f3\13\n\3\n\5\n\u00f6\n\n\3\13\3\13"+
+		"\3\13\3\13\3\13\7\13\u00fd\n\13\f\13\16\13\u0100\13\13\3\13\5\13\u0103"+
+		"\n\13\3\f\3\f\3\f\3\f\7\f\u0109\n\f\f\f\16\f\u010c\13\f\3\f\6\f\u010f"+
+		"\n\f\r\f\16\f\u0110\3\f\3\f\7\f\u0115\n\f\f\f\16\f\u0118\13\f\3\f\6\f"+
+		"\u011b\n\f\r\f\16\f\u011c\7\f\u011f\n\f\f\f\16\f\u0122\13\f\3\r\3\r\3"+
+		"\r\3\r\7\r\u0128\n\r\f\r\16\r\u012b\13\r\3\r\6\r\u012e\n\r\r\r\16\r\u012f"+
+		"\3\r\3\r\7\r\u0134\n\r\f\r\16\r\u0137\13\r\7\r\u0139\n\r\f\r\16\r\u013c"+
+		"\13\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u0144\n\16\3\16\3\16\7\16\u0148"+
+		"\n\16\f\16\16\16\u014b\13\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3"+
+		"\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\6\21\u015f\n\21\r\21"+
+		"\16\21\u0160\3\22\5\22\u0164\n\22\3\22\6\22\u0167\n\22\r\22\16\22\u0168"+
+		"\3\22\5\22\u016c\n\22\3\22\7\22\u016f\n\22\f\22\16\22\u0172\13\22\3\22"+
+		"\3\22\6\22\u0176\n\22\r\22\16\22\u0177\5\22\u017a\n\22\3\23\3\23\3\23"+
+		"\7\23\u017f\n\23\f\23\16\23\u0182\13\23\3\24\6\24\u0185\n\24\r\24\16\24"+
+		"\u0186\3\25\5\25\u018a\n\25\3\26\3\26\3\26\3\26\5\26\u0190\n\26\3\27\3"+
+		"\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\27\5\27\u019e\n\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\27\5\27\u01a6\n\27\5\27\u01a8\n\27\3\30\3"+
+		"\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\5\30\u01b6\n\30"+
+		"\3\30\3\30\3\30\3\30\3\30\3\30\5\30\u01be\n\30\5\30\u01c0\n\30\3\31\3"+
+		"\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u01ce\n\31"+
+		"\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u01d6\n\31\5\31\u01d8\n\31\3\32\3"+
+		"\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u01e6\n\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\5\32\u01ee\n\32\5\32\u01f0\n\32\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u01fe\n\33"+
+		"\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u0206\n\33\5\33\u0208\n\33\3\34\3"+
+		"\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u0216\n\34"+
+		"\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u021e\n\34\5\34\u0220\n\34\3\35\3"+
+		"\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u022e\n\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u0236\n\35\5\35\u0238\n\35\3\36\3"+
+		"\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\5\36\u0246\n\36"+
+		"\3\36\3\36\3\36\3\36\3\36\3\36\5\36\u024e\n\36\5\36\u0250\n\36\3\37\3"+
+		"\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u025e\n\37"+
+		"\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u0266\n\37\5\37\u0268\n\37\3 \3 \3"+
+		" \3 \3 \3 \3 \3 \3 \3 \3 \3 \5 \u0276\n \3 \3 \3 \3 \3 \3 \5 \u027e\n"+
+		" \5 \u0280\n \3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\5!\u028e\n!\3!\3!\3"+
+		"!\3!\3!\3!\5!\u0296\n!\5!\u0298\n!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\""+
+		"\3\"\3\"\3\"\5\"\u02a6\n\"\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u02ae\n\"\5\"\u02b0"+
+		"\n\"\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\5#\u02be\n#\3#\3#\3#\3#\3#\3"+
+		"#\5#\u02c6\n#\5#\u02c8\n#\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\3$\5$\u02d6"+
+		"\n$\3$\3$\3$\3$\3$\3$\5$\u02de\n$\5$\u02e0\n$\3%\3%\3%\3%\3%\3%\3%\3%"+
+		"\3%\3%\3%\3%\5%\u02ee\n%\3%\3%\3%\3%\3%\3%\5%\u02f6\n%\5%\u02f8\n%\3&"+
+		"\3&\3&\3&\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0306\n&\3&\3&\3&\3&\3&\3&\5&\u030e"+
+		"\n&\5&\u0310\n&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u031e"+
+		"\n\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u0326\n\'\5\'\u0328\n\'\3(\3(\3(\3(\3"+
+		"(\3(\3(\3(\3(\3(\3(\3(\5(\u0336\n(\3(\3(\3(\3(\3(\3(\5(\u033e\n(\5(\u0340"+
+		"\n(\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\5)\u034e\n)\3)\3)\3)\3)\3)\3)"+
+		"\5)\u0356\n)\5)\u0358\n)\3*\3*\3+\3+\3+\3+\7+\u0360\n+\f+\16+\u0363\13"+
+		"+\3+\6+\u0366\n+\r+\16+\u0367\3+\3+\7+\u036c\n+\f+\16+\u036f\13+\3+\6"+
+		"+\u0372\n+\r+\16+\u0373\7+\u0376\n+\f+\16+\u0379\13+\3+\3+\3+\3+\3,\3"+
+		",\5,\u0381\n,\3,\3,\3-\3-\3-\3-\3-\3.\3.\3.\3.\3/\3/\3/\3\60\3\60\3\60"+
+		"\3\61\3\61\5\61\u0396\n\61\3\62\3\62\5\62\u039a\n\62\3\63\5\63\u039d\n"+
+		"\63\3\63\3\63\7\63\u03a1\n\63\f\63\16\63\u03a4\13\63\3\64\3\64\3\64\3"+
+		"\65\3\65\3\65\3\65\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3"+
+		"\67\3\67\3\67\3\67\3\67\3\67\3\67\38\38\38\38\38\38\38\38\38\39\39\39"+
+		"\79\u03ca\n9\f9\169\u03cd\139\39\39\39\39\39\39\39\39\39\39\3:\3:\3:\3"+
+		":\3;\3;\3;\3;\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3<\3"+
+		"<\3<\3<\3<\3<\3<\5<\u03f9\n<\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3=\3"+
+		"=\3=\3=\5=\u040b\n=\3>\3>\3>\3>\3>\3>\3>\5>\u0414\n>\3?\3?\3?\3?\3?\3"+
+		"?\3?\3?\3?\5?\u041f\n?\3@\3@\3@\3A\3A\3A\3B\3B\3C\3C\3C\3C\3C\3C\3C\3"+
+		"C\3C\3C\3C\3C\3C\3C\3C\3C\3C\3C\5C\u043b\nC\3D\3D\3D\5D\u0440\nD\3E\3"+
+		"E\3E\3F\3F\3G\3G\3H\3H\3I\3I\3J\3J\3K\3K\3L\3L\3M\3M\3N\3N\3O\3O\3P\3"+
+		"P\3Q\3Q\3R\3R\3S\3S\3T\3T\2\2U\3\2\5\2\7\2\t\2\13\2\r\2\17\2\21\2\23\2"+
+		"\25\2\27\2\31\2\33\2\35\2\37\2!\2#\2%\2\'\2)\2+\2-\2/\2\61\2\63\2\65\2"+
+		"\67\29\2;\2=\2?\2A\2C\2E\2G\2I\2K\2M\2O\2Q\2S\3U\4W\5Y\6[\7]\b_\ta\nc"+
+		"\13e\fg\ri\16k\17m\20o\21q\22s\23u\24w\25y\26{\27}\30\177\31\u0081\32"+
+		"\u0083\33\u0085\34\u0087\35\u0089\36\u008b\37\u008d \u008f!\u0091\"\u0093"+
+		"#\u0095$\u0097%\u0099&\u009b\'\u009d(\u009f)\u00a1*\u00a3+\u00a5,\u00a7"+
+		"-\3\2&\5\2\62;CHch\5\2\13\f\16\17\"\"\6\2\f\f\16\17\62;ch\5\2C\\aac|\7"+
+		"\2//\62;C\\aac|\6\2\f\f\16\17$$^^\6\2\f\f\16\17))^^\3\2,,\4\2,,\61\61"+
+		"\b\2##%(,/]]__\u0080\u0080\4\2--//\3\2\62;\5\2##%(,\u0080\4\2CCcc\4\2"+
+		"\66\6688\4\2EEee\4\2FFff\4\2GGgg\4\2IIii\4\2JJjj\4\2KKkk\4\2MMmm\4\2D"+
+		"Ddd\4\2NNnn\4\2OOoo\4\2PPpp\4\2QQqq\4\2HHhh\4\2RRrr\4\2\67\6799\4\2TT"+
+		"tt\4\2UUuu\4\2VVvv\4\2WWww\4\2ZZzz\4\2\\\\||\2\u04f7\2S\3\2\2\2\2U\3\2"+
+		"\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2"+
+		"\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o"+
+		"\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2"+
+		"\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085"+
+		"\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2"+
+		"\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097"+
+		"\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2"+
+		"\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\3\u00a9"+
+		"\3\2\2\2\5\u00ab\3\2\2\2\7\u00ad\3\2\2\2\t\u00c6\3\2\2\2\13\u00cb\3\2"+
+		"\2\2\r\u00d0\3\2\2\2\17\u00d2\3\2\2\2\21\u00de\3\2\2\2\23\u00ea\3\2\2"+
+		"\2\25\u00f7\3\2\2\2\27\u0104\3\2\2\2\31\u0123\3\2\2\2\33\u013d\3\2\2\2"+
+		"\35\u014e\3\2\2\2\37\u0156\3\2\2\2!\u015e\3\2\2\2#\u0179\3\2\2\2%\u0180"+
+		"\3\2\2\2\'\u0184\3\2\2\2)\u0189\3\2\2\2+\u018f\3\2\2\2-\u01a7\3\2\2\2"+
+		"/\u01bf\3\2\2\2\61\u01d7\3\2\2\2\63\u01ef\3\2\2\2\65\u0207\3\2\2\2\67"+
+		"\u021f\3\2\2\29\u0237\3\2\2\2;\u024f\3\2\2\2=\u0267\3\2\2\2?\u027f\3\2"+
+		"\2\2A\u0297\3\2\2\2C\u02af\3\2\2\2E\u02c7\3\2\2\2G\u02df\3\2\2\2I\u02f7"+
+		"\3\2\2\2K\u030f\3\2\2\2M\u0327\3\2\2\2O\u033f\3\2\2\2Q\u0357\3\2\2\2S"+
+		"\u0359\3\2\2\2U\u035b\3\2\2\2W\u0380\3\2\2\2Y\u0384\3\2\2\2[\u0389\3\2"+
+		"\2\2]\u038d\3\2\2\2_\u0390\3\2\2\2a\u0395\3\2\2\2c\u0399\3\2\2\2e\u039c"+
+		"\3\2\2\2g\u03a5\3\2\2\2i\u03a8\3\2\2\2k\u03b0\3\2\2\2m\u03b6\3\2\2\2o"+
+		"\u03bd\3\2\2\2q\u03c6\3\2\2\2s\u03d8\3\2\2\2u\u03dc\3\2\2\2w\u03f8\3\2"+
+		"\2\2y\u040a\3\2\2\2{\u0413\3\2\2\2}\u041e\3\2\2\2\177\u0420\3\2\2\2\u0081"+
+		"\u0423\3\2\2\2\u0083\u0426\3\2\2\2\u0085\u043a\3\2\2\2\u0087\u043f\3\2"+
+		"\2\2\u0089\u0441\3\2\2\2\u008b\u0444\3\2\2\2\u008d\u0446\3\2\2\2\u008f"+
+		"\u0448\3\2\2\2\u0091\u044a\3\2\2\2\u0093\u044c\3\2\2\2\u0095\u044e\3\2"+
+		"\2\2\u0097\u0450\3\2\2\2\u0099\u0452\3\2\2\2\u009b\u0454\3\2\2\2\u009d"+
+		"\u0456\3\2\2\2\u009f\u0458\3\2\2\2\u00a1\u045a\3\2\2\2\u00a3\u045c\3\2"+
+		"\2\2\u00a5\u045e\3\2\2\2\u00a7\u0460\3\2\2\2\u00a9\u00aa\t\2\2\2\u00aa"+
+		"\4\3\2\2\2\u00ab\u00ac\4\u00a2\u0101\2\u00ac\6\3\2\2\2\u00ad\u00bb\7^"+
+		"\2\2\u00ae\u00b0\5\3\2\2\u00af\u00ae\3\2\2\2\u00af\u00b0\3\2\2\2\u00b0"+
+		"\u00b1\3\2\2\2\u00b1\u00b3\5\3\2\2\u00b2\u00af\3\2\2\2\u00b2\u00b3\3\2"+
+		"\2\2\u00b3\u00b4\3\2\2\2\u00b4\u00b6\5\3\2\2\u00b5\u00b2\3\2\2\2\u00b5"+
+		"\u00b6\3\2\2\2\u00b6\u00b7\3\2\2\2\u00b7\u00b9\5\3\2\2\u00b8\u00b5\3\2"+
+		"\2\2\u00b8\u00b9\3\2\2\2\u00b9\u00ba\3\2\2\2\u00ba\u00bc\5\3\2\2\u00bb"+
+		"\u00b8\3\2\2\2\u00bb\u00bc\3\2\2\2\u00bc\u00bd\3\2\2\2\u00bd\u00c1\5\3"+
+		"\2\2\u00be\u00bf\7\17\2\2\u00bf\u00c2\7\f\2\2\u00c0\u00c2\t\3\2\2\u00c1"+
+		"\u00be\3\2\2\2\u00c1\u00c0\3\2\2\2\u00c1\u00c2\3\2\2\2\u00c2\b\3\2\2\2"+
+		"\u00c3\u00c7\5\7\4\2\u00c4\u00c5\7^\2\2\u00c5\u00c7\n\4\2\2\u00c6\u00c3"+
+		"\3\2\2\2\u00c6\u00c4\3\2\2\2\u00c7\n\3\2\2\2\u00c8\u00cc\t\5\2\2\u00c9"+
+		"\u00cc\5\5\3\2\u00ca\u00cc\5\t\5\2\u00cb\u00c8\3\2\2\2\u00cb\u00c9\3\2"+
+		"\2\2\u00cb\u00ca\3\2\2\2\u00cc\f\3\2\2\2\u00cd\u00d1\t\6\2\2\u00ce\u00d1"+
+		"\5\5\3\2\u00cf\u00d1\5\t\5\2\u00d0\u00cd\3\2\2\2\u00d0\u00ce\3\2\2\2\u00d0"+
+		"\u00cf\3\2\2\2\u00d1\16\3\2\2\2\u00d2\u00d9\7$\2\2\u00d3\u00d8\n\7\2\2"+
+		"\u00d4\u00d5\7^\2\2\u00d5\u00d8\5+\26\2\u00d6\u00d8\5\t\5\2\u00d7\u00d3"+
+		"\3\2\2\2\u00d7\u00d4\3\2\2\2\u00d7\u00d6\3\2\2\2\u00d8\u00db\3\2\2\2\u00d9"+
+		"\u00d7\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\u00dc\3\2\2\2\u00db\u00d9\3\2"+
+		"\2\2\u00dc\u00dd\7$\2\2\u00dd\20\3\2\2\2\u00de\u00e5\7)\2\2\u00df\u00e4"+
+		"\n\b\2\2\u00e0\u00e1\7^\2\2\u00e1\u00e4\5+\26\2\u00e2\u00e4\5\t\5\2\u00e3"+
+		"\u00df\3\2\2\2\u00e3\u00e0\3\2\2\2\u00e3\u00e2\3\2\2\2\u00e4\u00e7\3\2"+
+		"\2\2\u00e5\u00e3\3\2\2\2\u00e5\u00e6\3\2\2\2\u00e6\u00e8\3\2\2\2\u00e7"+
+		"\u00e5\3\2\2\2\u00e8\u00e9\7)\2\2\u00e9\22\3\2\2\2\u00ea\u00f1\7$\2\2"+
+		"\u00eb\u00f0\n\7\2\2\u00ec\u00ed\7^\2\2\u00ed\u00f0\5+\26\2\u00ee\u00f0"+
+		"\5\t\5\2\u00ef\u00eb\3\2\2\2\u00ef\u00ec\3\2\2\2\u00ef\u00ee\3\2\2\2\u00f0"+
+		"\u00f3\3\2\2\2\u00f1\u00ef\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2\u00f5\3\2"+
+		"\2\2\u00f3\u00f1\3\2\2\2\u00f4\u00f6\7^\2\2\u00f5\u00f4\3\2\2\2\u00f5"+
+		"\u00f6\3\2\2\2\u00f6\24\3\2\2\2\u00f7\u00fe\7)\2\2\u00f8\u00fd\n\b\2\2"+
+		"\u00f9\u00fa\7^\2\2\u00fa\u00fd\5+\26\2\u00fb\u00fd\5\t\5\2\u00fc\u00f8"+
+		"\3\2\2\2\u00fc\u00f9\3\2\2\2\u00fc\u00fb\3\2\2\2\u00fd\u0100\3\2\2\2\u00fe"+
+		"\u00fc\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff\u0102\3\2\2\2\u0100\u00fe\3\2"+
+		"\2\2\u0101\u0103\7^\2\2\u0102\u0101\3\2\2\2\u0102\u0103\3\2\2\2\u0103"+
+		"\26\3\2\2\2\u0104\u0105\7\61\2\2\u0105\u0106\7,\2\2\u0106\u010a\3\2\2"+
+		"\2\u0107\u0109\n\t\2\2\u0108\u0107\3\2\2\2\u0109\u010c\3\2\2\2\u010a\u0108"+
+		"\3\2\2\2\u010a\u010b\3\2\2\2\u010b\u010e\3\2\2\2\u010c\u010a\3\2\2\2\u010d"+
+		"\u010f\7,\2\2\u010e\u010d\3\2\2\2\u010f\u0110\3\2\2\2\u0110\u010e\3\2"+
+		"\2\2\u0110\u0111\3\2\2\2\u0111\u0120\3\2\2\2\u0112\u0116\n\n\2\2\u0113"+
+		"\u0115\n\t\2\2\u0114\u0113\3\2\2\2\u0115\u0118\3\2\2\2\u0116\u0114\3\2"+
+		"\2\2\u0116\u0117\3\2\2\2\u0117\u011a\3\2\2\2\u0118\u0116\3\2\2\2\u0119"+
+		"\u011b\7,\2\2\u011a\u0119\3\2\2\2\u011b\u011c\3\2\2\2\u011c\u011a\3\2"+
+		"\2\2\u011c\u011d\3\2\2\2\u011d\u011f\3\2\2\2\u011e\u0112\3\2\2\2\u011f"+
+		"\u0122\3\2\2\2\u0120\u011e\3\2\2\2\u0120\u0121\3\2\2\2\u0121\30\3\2\2"+
+		"\2\u0122\u0120\3\2\2\2\u0123\u0124\7\61\2\2\u0124\u0125\7,\2\2\u0125\u0129"+
+		"\3\2\2\2\u0126\u0128\n\t\2\2\u0127\u0126\3\2\2\2\u0128\u012b\3\2\2\2\u0129"+
+		"\u0127\3\2\2\2\u0129\u012a\3\2\2\2\u012a\u013a\3\2\2\2\u012b\u0129\3\2"+
+		"\2\2\u012c\u012e\7,\2\2\u012d\u012c\3\2\2\2\u012e\u012f\3\2\2\2\u012f"+
+		"\u012d\3\2\2\2\u012f\u0130\3\2\2\2\u0130\u0131\3\2\2\2\u0131\u0135\n\n"+
+		"\2\2\u0132\u0134\n\t\2\2\u0133\u0132\3\2\2\2\u0134\u0137\3\2\2\2\u0135"+
+		"\u0133\3\2\2\2\u0135\u0136\3\2\2\2\u0136\u0139\3\2\2\2\u0137\u0135\3\2"+
+		"\2\2\u0138\u012d\3\2\2\2\u0139\u013c\3\2\2\2\u013a\u0138\3\2\2\2\u013a"+
+		"\u013b\3\2\2\2\u013b\32\3\2\2\2\u013c\u013a\3\2\2\2\u013d\u013e\5M\'\2"+
+		"\u013e\u013f\5G$\2\u013f\u0140\5=\37\2\u0140\u0141\7*\2\2\u0141\u0149"+
+		"\5)\25\2\u0142\u0144\t\13\2\2\u0143\u0142\3\2\2\2\u0144\u0148\3\2\2\2"+
+		"\u0145\u0148\5\5\3\2\u0146\u0148\5\t\5\2\u0147\u0143\3\2\2\2\u0147\u0145"+
+		"\3\2\2\2\u0147\u0146\3\2\2\2\u0148\u014b\3\2\2\2\u0149\u0147\3\2\2\2\u0149"+
+		"\u014a\3\2\2\2\u014a\u014c\3\2\2\2\u014b\u0149\3\2\2\2\u014c\u014d\5)"+
+		"\25\2\u014d\34\3\2\2\2\u014e\u014f\5M\'\2\u014f\u0150\5G$\2\u0150\u0151"+
+		"\5=\37\2\u0151\u0152\7*\2\2\u0152\u0153\5)\25\2\u0153\u0154\5a\61\2\u0154"+
+		"\u0155\5)\25\2\u0155\36\3\2\2\2\u0156\u0157\5M\'\2\u0157\u0158\5G$\2\u0158"+
+		"\u0159\5=\37\2\u0159\u015a\7*\2\2\u015a\u015b\5)\25\2\u015b\u015c\5c\62"+
+		"\2\u015c \3\2\2\2\u015d\u015f\5\r\7\2\u015e\u015d\3\2\2\2\u015f\u0160"+
+		"\3\2\2\2\u0160\u015e\3\2\2\2\u0160\u0161\3\2\2\2\u0161\"\3\2\2\2\u0162"+
+		"\u0164\t\f\2\2\u0163\u0162\3\2\2\2\u0163\u0164\3\2\2\2\u0164\u0166\3\2"+
+		"\2\2\u0165\u0167\t\r\2\2\u0166\u0165\3\2\2\2\u0167\u0168\3\2\2\2\u0168"+
+		"\u0166\3\2\2\2\u0168\u0169\3\2\2\2\u0169\u017a\3\2\2\2\u016a\u016c\t\f"+
+		"\2\2\u016b\u016a\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u0170\3\2\2\2\u016d"+
+		"\u016f\t\r\2\2\u016e\u016d\3\2\2\2\u016f\u0172\3\2\2\2\u0170\u016e\3\2"+
+		"\2\2\u0170\u0171\3\2\2\2\u0171\u0173\3\2\2\2\u0172\u0170\3\2\2\2\u0173"+
+		"\u0175\7\60\2\2\u0174\u0176\t\r\2\2\u0175\u0174\3\2\2\2\u0176\u0177\3"+
+		"\2\2\2\u0177\u0175\3\2\2\2\u0177\u0178\3\2\2\2\u0178\u017a\3\2\2\2\u0179"+
+		"\u0163\3\2\2\2\u0179\u016b\3\2\2\2\u017a$\3\2\2\2\u017b\u017f\t\16\2\2"+
+		"\u017c\u017f\5\5\3\2\u017d\u017f\5\t\5\2\u017e\u017b\3\2\2\2\u017e\u017c"+
+		"\3\2\2\2\u017e\u017d\3\2\2\2\u017f\u0182\3\2\2\2\u0180\u017e\3\2\2\2\u0180"+
+		"\u0181\3\2\2\2\u0181&\3\2\2\2\u0182\u0180\3\2\2\2\u0183\u0185\t\3\2\2"+
+		"\u0184\u0183\3\2\2\2\u0185\u0186\3\2\2\2\u0186\u0184\3\2\2\2\u0186\u0187"+
+		"\3\2\2\2\u0187(\3\2\2\2\u0188\u018a\5\'\24\2\u0189\u0188\3\2\2\2\u0189"+
+		"\u018a\3\2\2\2\u018a*\3\2\2\2\u018b\u0190\7\f\2\2\u018c\u018d\7\17\2\2"+
+		"\u018d\u0190\7\f\2\2\u018e\u0190\4\16\17\2\u018f\u018b\3\2\2\2\u018f\u018c"+
+		"\3\2\2\2\u018f\u018e\3\2\2\2\u0190,\3\2\2\2\u0191\u01a8\t\17\2\2\u0192"+
+		"\u019d\7^\2\2\u0193\u0194\7\62\2\2\u0194\u0195\7\62\2\2\u0195\u0196\7"+
+		"\62\2\2\u0196\u019e\7\62\2\2\u0197\u0198\7\62\2\2\u0198\u0199\7\62\2\2"+
+		"\u0199\u019e\7\62\2\2\u019a\u019b\7\62\2\2\u019b\u019e\7\62\2\2\u019c"+
+		"\u019e\7\62\2\2\u019d\u0193\3\2\2\2\u019d\u0197\3\2\2\2\u019d\u019a\3"+
+		"\2\2\2\u019d\u019c\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u01a0\t\20\2\2\u01a0"+
+		"\u01a1\7\63\2\2\u01a1\u01a5\3\2\2\2\u01a2\u01a3\7\17\2\2\u01a3\u01a6\7"+
+		"\f\2\2\u01a4\u01a6\t\3\2\2\u01a5\u01a2\3\2\2\2\u01a5\u01a4\3\2\2\2\u01a5"+
+		"\u01a6\3\2\2\2\u01a6\u01a8\3\2\2\2\u01a7\u0191\3\2\2\2\u01a7\u0192\3\2"+
+		"\2\2\u01a8.\3\2\2\2\u01a9\u01c0\t\21\2\2\u01aa\u01b5\7^\2\2\u01ab\u01ac"+
+		"\7\62\2\2\u01ac\u01ad\7\62\2\2\u01ad\u01ae\7\62\2\2\u01ae\u01b6\7\62\2"+
+		"\2\u01af\u01b0\7\62\2\2\u01b0\u01b1\7\62\2\2\u01b1\u01b6\7\62\2\2\u01b2"+
+		"\u01b3\7\62\2\2\u01b3\u01b6\7\62\2\2\u01b4\u01b6\7\62\2\2\u01b5\u01ab"+
+		"\3\2\2\2\u01b5\u01af\3\2\2\2\u01b5\u01b2\3\2\2\2\u01b5\u01b4\3\2\2\2\u01b6"+
+		"\u01b7\3\2\2\2\u01b7\u01b8\t\20\2\2\u01b8\u01b9\7\65\2\2\u01b9\u01bd\3"+
+		"\2\2\2\u01ba\u01bb\7\17\2\2\u01bb\u01be\7\f\2\2\u01bc\u01be\t\3\2\2\u01bd"+
+		"\u01ba\3\2\2\2\u01bd\u01bc\3\2\2\2\u01bd\u01be\3\2\2\2\u01be\u01c0\3\2"+
+		"\2\2\u01bf\u01a9\3\2\2\2\u01bf\u01aa\3\2\2\2\u01c0\60\3\2\2\2\u01c1\u01d8"+
+		"\t\22\2\2\u01c2\u01cd\7^\2\2\u01c3\u01c4\7\62\2\2\u01c4\u01c5\7\62\2\2"+
+		"\u01c5\u01c6\7\62\2\2\u01c6\u01ce\7\62\2\2\u01c7\u01c8\7\62\2\2\u01c8"+
+		"\u01c9\7\62\2\2\u01c9\u01ce\7\62\2\2\u01ca\u01cb\7\62\2\2\u01cb\u01ce"+
+		"\7\62\2\2\u01cc\u01ce\7\62\2\2\u01cd\u01c3\3\2\2\2\u01cd\u01c7\3\2\2\2"+
+		"\u01cd\u01ca\3\2\2\2\u01cd\u01cc\3\2\2\2\u01ce\u01cf\3\2\2\2\u01cf\u01d0"+
+		"\t\20\2\2\u01d0\u01d1\7\66\2\2\u01d1\u01d5\3\2\2\2\u01d2\u01d3\7\17\2"+
+		"\2\u01d3\u01d6\7\f\2\2\u01d4\u01d6\t\3\2\2\u01d5\u01d2\3\2\2\2\u01d5\u01d4"+
+		"\3\2\2\2\u01d5\u01d6\3\2\2\2\u01d6\u01d8\3\2\2\2\u01d7\u01c1\3\2\2\2\u01d7"+
+		"\u01c2\3\2\2\2\u01d8\62\3\2\2\2\u01d9\u01f0\t\23\2\2\u01da\u01e5\7^\2"+
+		"\2\u01db\u01dc\7\62\2\2\u01dc\u01dd\7\62\2\2\u01dd\u01de\7\62\2\2\u01de"+
+		"\u01e6\7\62\2\2\u01df\u01e0\7\62\2\2\u01e0\u01e1\7\62\2\2\u01e1\u01e6"+
+		"\7\62\2\2\u01e2\u01e3\7\62\2\2\u01e3\u01e6\7\62\2\2\u01e4\u01e6\7\62\2"+
+		"\2\u01e5\u01db\3\2\2\2\u01e5\u01df\3\2\2\2\u01e5\u01e2\3\2\2\2\u01e5\u01e4"+
+		"\3\2\2\2\u01e6\u01e7\3\2\2\2\u01e7\u01e8\t\20\2\2\u01e8\u01e9\7\67\2\2"+
+		"\u01e9\u01ed\3\2\2\2\u01ea\u01eb\7\17\2\2\u01eb\u01ee\7\f\2\2\u01ec\u01ee"+
+		"\t\3\2\2\u01ed\u01ea\3\2\2\2\u01ed\u01ec\3\2\2\2\u01ed\u01ee\3\2\2\2\u01ee"+
+		"\u01f0\3\2\2\2\u01ef\u01d9\3\2\2\2\u01ef\u01da\3\2\2\2\u01f0\64\3\2\2"+
+		"\2\u01f1\u0208\t\24\2\2\u01f2\u01fd\7^\2\2\u01f3\u01f4\7\62\2\2\u01f4"+
+		"\u01f5\7\62\2\2\u01f5\u01f6\7\62\2\2\u01f6\u01fe\7\62\2\2\u01f7\u01f8"+
+		"\7\62\2\2\u01f8\u01f9\7\62\2\2\u01f9\u01fe\7\62\2\2\u01fa\u01fb\7\62\2"+
+		"\2\u01fb\u01fe\7\62\2\2\u01fc\u01fe\7\62\2\2\u01fd\u01f3\3\2\2\2\u01fd"+
+		"\u01f7\3\2\2\2\u01fd\u01fa\3\2\2\2\u01fd\u01fc\3\2\2\2\u01fe\u01ff\3\2"+
+		"\2\2\u01ff\u0200\t\20\2\2\u0200\u0201\79\2\2\u0201\u0205\3\2\2\2\u0202"+
+		"\u0203\7\17\2\2\u0203\u0206\7\f\2\2\u0204\u0206\t\3\2\2\u0205\u0202\3"+
+		"\2\2\2\u0205\u0204\3\2\2\2\u0205\u0206\3\2\2\2\u0206\u0208\3\2\2\2\u0207"+
+		"\u01f1\3\2\2\2\u0207\u01f2\3\2\2\2\u0208\66\3\2\2\2\u0209\u0220\t\25\2"+
+		"\2\u020a\u0215\7^\2\2\u020b\u020c\7\62\2\2\u020c\u020d\7\62\2\2\u020d"+
+		"\u020e\7\62\2\2\u020e\u0216\7\62\2\2\u020f\u0210\7\62\2\2\u0210\u0211"+
+		"\7\62\2\2\u0211\u0216\7\62\2\2\u0212\u0213\7\62\2\2\u0213\u0216\7\62\2"+
+		"\2\u0214\u0216\7\62\2\2\u0215\u020b\3\2\2\2\u0215\u020f\3\2\2\2\u0215"+
+		"\u0212\3\2\2\2\u0215\u0214\3\2\2\2\u0216\u0217\3\2\2\2\u0217\u0218\t\20"+
+		"\2\2\u0218\u0219\7:\2\2\u0219\u021d\3\2\2\2\u021a\u021b\7\17\2\2\u021b"+
+		"\u021e\7\f\2\2\u021c\u021e\t\3\2\2\u021d\u021a\3\2\2\2\u021d\u021c\3\2"+
+		"\2\2\u021d\u021e\3\2\2\2\u021e\u0220\3\2\2\2\u021f\u0209\3\2\2\2\u021f"+
+		"\u020a\3\2\2\2\u02208\3\2\2\2\u0221\u0238\t\26\2\2\u0222\u022d\7^\2\2"+
+		"\u0223\u0224\7\62\2\2\u0224\u0225\7\62\2\2\u0225\u0226\7\62\2\2\u0226"+
+		"\u022e\7\62\2\2\u0227\u0228\7\62\2\2\u0228\u0229\7\62\2\2\u0229\u022e"+
+		"\7\62\2\2\u022a\u022b\7\62\2\2\u022b\u022e\7\62\2\2\u022c\u022e\7\62\2"+
+		"\2\u022d\u0223\3\2\2\2\u022d\u0227\3\2\2\2\u022d\u022a\3\2\2\2\u022d\u022c"+
+		"\3\2\2\2\u022e\u022f\3\2\2\2\u022f\u0230\t\20\2\2\u0230\u0231\7;\2\2\u0231"+
+		"\u0235\3\2\2\2\u0232\u0233\7\17\2\2\u0233\u0236\7\f\2\2\u0234\u0236\t"+
+		"\3\2\2\u0235\u0232\3\2\2\2\u0235\u0234\3\2\2\2\u0235\u0236\3\2\2\2\u0236"+
+		"\u0238\3\2\2\2\u0237\u0221\3\2\2\2\u0237\u0222\3\2\2\2\u0238:\3\2\2\2"+
+		"\u0239\u0250\t\27\2\2\u023a\u0245\7^\2\2\u023b\u023c\7\62\2\2\u023c\u023d"+
+		"\7\62\2\2\u023d\u023e\7\62\2\2\u023e\u0246\7\62\2\2\u023f\u0240\7\62\2"+
+		"\2\u0240\u0241\7\62\2\2\u0241\u0246\7\62\2\2\u0242\u0243\7\62\2\2\u0243"+
+		"\u0246\7\62\2\2\u0244\u0246\7\62\2\2\u0245\u023b\3\2\2\2\u0245\u023f\3"+
+		"\2\2\2\u0245\u0242\3\2\2\2\u0245\u0244\3\2\2\2\u0246\u0247\3\2\2\2\u0247"+
+		"\u0248\t\20\2\2\u0248\u0249\t\30\2\2\u0249\u024d\3\2\2\2\u024a\u024b\7"+
+		"\17\2\2\u024b\u024e\7\f\2\2\u024c\u024e\t\3\2\2\u024d\u024a\3\2\2\2\u024d"+
+		"\u024c\3\2\2\2\u024d\u024e\3\2\2\2\u024e\u0250\3\2\2\2\u024f\u0239\3\2"+
+		"\2\2\u024f\u023a\3\2\2\2\u0250<\3\2\2\2\u0251\u0268\t\31\2\2\u0252\u025d"+
+		"\7^\2\2\u0253\u0254\7\62\2\2\u0254\u0255\7\62\2\2\u0255\u0256\7\62\2\2"+
+		"\u0256\u025e\7\62\2\2\u0257\u0258\7\62\2\2\u0258\u0259\7\62\2\2\u0259"+
+		"\u025e\7\62\2\2\u025a\u025b\7\62\2\2\u025b\u025e\7\62\2\2\u025c\u025e"+
+		"\7\62\2\2\u025d\u0253\3\2\2\2\u025d\u0257\3\2\2\2\u025d\u025a\3\2\2\2"+
+		"\u025d\u025c\3\2\2\2\u025e\u025f\3\2\2\2\u025f\u0260\t\20\2\2\u0260\u0261"+
+		"\t\21\2\2\u0261\u0265\3\2\2\2\u0262\u0263\7\17\2\2\u0263\u0266\7\f\2\2"+
+		"\u0264\u0266\t\3\2\2\u0265\u0262\3\2\2\2\u0265\u0264\3\2\2\2\u0265\u0266"+
+		"\3\2\2\2\u0266\u0268\3\2\2\2\u0267\u0251\3\2\2\2\u0267\u0252\3\2\2\2\u0268"+
+		">\3\2\2\2\u0269\u0280\t\32\2\2\u026a\u0275\7^\2\2\u026b\u026c\7\62\2\2"+
+		"\u026c\u026d\7\62\2\2\u026d\u026e\7\62\2\2\u026e\u0276\7\62\2\2\u026f"+
+		"\u0270\7\62\2\2\u0270\u0271\7\62\2\2\u0271\u0276\7\62\2\2\u0272\u0273"+
+		"\7\62\2\2\u0273\u0276\7\62\2\2\u0274\u0276\7\62\2\2\u0275\u026b\3\2\2"+
+		"\2\u0275\u026f\3\2\2\2\u0275\u0272\3\2\2\2\u0275\u0274\3\2\2\2\u0276\u0277"+
+		"\3\2\2\2\u0277\u0278\t\20\2\2\u0278\u0279\t\22\2\2\u0279\u027d\3\2\2\2"+
+		"\u027a\u027b\7\17\2\2\u027b\u027e\7\f\2\2\u027c\u027e\t\3\2\2\u027d\u027a"+
+		"\3\2\2\2\u027d\u027c\3\2\2\2\u027d\u027e\3\2\2\2\u027e\u0280\3\2\2\2\u027f"+
+		"\u0269\3\2\2\2\u027f\u026a\3\2\2\2\u0280@\3\2\2\2\u0281\u0298\t\33\2\2"+
+		"\u0282\u028d\7^\2\2\u0283\u0284\7\62\2\2\u0284\u0285\7\62\2\2\u0285\u0286"+
+		"\7\62\2\2\u0286\u028e\7\62\2\2\u0287\u0288\7\62\2\2\u0288\u0289\7\62\2"+
+		"\2\u0289\u028e\7\62\2\2\u028a\u028b\7\62\2\2\u028b\u028e\7\62\2\2\u028c"+
+		"\u028e\7\62\2\2\u028d\u0283\3\2\2\2\u028d\u0287\3\2\2\2\u028d\u028a\3"+
+		"\2\2\2\u028d\u028c\3\2\2\2\u028e\u028f\3\2\2\2\u028f\u0290\t\20\2\2\u0290"+
+		"\u0291\t\23\2\2\u0291\u0295\3\2\2\2\u0292\u0293\7\17\2\2\u0293\u0296\7"+
+		"\f\2\2\u0294\u0296\t\3\2\2\u0295\u0292\3\2\2\2\u0295\u0294\3\2\2\2\u0295"+
+		"\u0296\3\2\2\2\u0296\u0298\3\2\2\2\u0297\u0281\3\2\2\2\u0297\u0282\3\2"+
+		"\2\2\u0298B\3\2\2\2\u0299\u02b0\t\34\2\2\u029a\u02a5\7^\2\2\u029b\u029c"+
+		"\7\62\2\2\u029c\u029d\7\62\2\2\u029d\u029e\7\62\2\2\u029e\u02a6\7\62\2"+
+		"\2\u029f\u02a0\7\62\2\2\u02a0\u02a1\7\62\2\2\u02a1\u02a6\7\62\2\2\u02a2"+
+		"\u02a3\7\62\2\2\u02a3\u02a6\7\62\2\2\u02a4\u02a6\7\62\2\2\u02a5\u029b"+
+		"\3\2\2\2\u02a5\u029f\3\2\2\2\u02a5\u02a2\3\2\2\2\u02a5\u02a4\3\2\2\2\u02a6"+
+		"\u02a7\3\2\2\2\u02a7\u02a8\t\20\2\2\u02a8\u02a9\t\35\2\2\u02a9\u02ad\3"+
+		"\2\2\2\u02aa\u02ab\7\17\2\2\u02ab\u02ae\7\f\2\2\u02ac\u02ae\t\3\2\2\u02ad"+
+		"\u02aa\3\2\2\2\u02ad\u02ac\3\2\2\2\u02ad\u02ae\3\2\2\2\u02ae\u02b0\3\2"+
+		"\2\2\u02af\u0299\3\2\2\2\u02af\u029a\3\2\2\2\u02b0D\3\2\2\2\u02b1\u02c8"+
+		"\t\36\2\2\u02b2\u02bd\7^\2\2\u02b3\u02b4\7\62\2\2\u02b4\u02b5\7\62\2\2"+
+		"\u02b5\u02b6\7\62\2\2\u02b6\u02be\7\62\2\2\u02b7\u02b8\7\62\2\2\u02b8"+
+		"\u02b9\7\62\2\2\u02b9\u02be\7\62\2\2\u02ba\u02bb\7\62\2\2\u02bb\u02be"+
+		"\7\62\2\2\u02bc\u02be\7\62\2\2\u02bd\u02b3\3\2\2\2\u02bd\u02b7\3\2\2\2"+
+		"\u02bd\u02ba\3\2\2\2\u02bd\u02bc\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf\u02c0"+
+		"\t\37\2\2\u02c0\u02c1\7\62\2\2\u02c1\u02c5\3\2\2\2\u02c2\u02c3\7\17\2"+
+		"\2\u02c3\u02c6\7\f\2\2\u02c4\u02c6\t\3\2\2\u02c5\u02c2\3\2\2\2\u02c5\u02c4"+
+		"\3\2\2\2\u02c5\u02c6\3\2\2\2\u02c6\u02c8\3\2\2\2\u02c7\u02b1\3\2\2\2\u02c7"+
+		"\u02b2\3\2\2\2\u02c8F\3\2\2\2\u02c9\u02e0\t \2\2\u02ca\u02d5\7^\2\2\u02cb"+
+		"\u02cc\7\62\2\2\u02cc\u02cd\7\62\2\2\u02cd\u02ce\7\62\2\2\u02ce\u02d6"+
+		"\7\62\2\2\u02cf\u02d0\7\62\2\2\u02d0\u02d1\7\62\2\2\u02d1\u02d6\7\62\2"+
+		"\2\u02d2\u02d3\7\62\2\2\u02d3\u02d6\7\62\2\2\u02d4\u02d6\7\62\2\2\u02d5"+
+		"\u02cb\3\2\2\2\u02d5\u02cf\3\2\2\2\u02d5\u02d2\3\2\2\2\u02d5\u02d4\3\2"+
+		"\2\2\u02d6\u02d7\3\2\2\2\u02d7\u02d8\t\37\2\2\u02d8\u02d9\7\64\2\2\u02d9"+
+		"\u02dd\3\2\2\2\u02da\u02db\7\17\2\2\u02db\u02de\7\f\2\2\u02dc\u02de\t"+
+		"\3\2\2\u02dd\u02da\3\2\2\2\u02dd\u02dc\3\2\2\2\u02dd\u02de\3\2\2\2\u02de"+
+		"\u02e0\3\2\2\2\u02df\u02c9\3\2\2\2\u02df\u02ca\3\2\2\2\u02e0H\3\2\2\2"+
+		"\u02e1\u02f8\t!\2\2\u02e2\u02ed\7^\2\2\u02e3\u02e4\7\62\2\2\u02e4\u02e5"+
+		"\7\62\2\2\u02e5\u02e6\7\62\2\2\u02e6\u02ee\7\62\2\2\u02e7\u02e8\7\62\2"+
+		"\2\u02e8\u02e9\7\62\2\2\u02e9\u02ee\7\62\2\2\u02ea\u02eb\7\62\2\2\u02eb"+
+		"\u02ee\7\62\2\2\u02ec\u02ee\7\62\2\2\u02ed\u02e3\3\2\2\2\u02ed\u02e7\3"+
+		"\2\2\2\u02ed\u02ea\3\2\2\2\u02ed\u02ec\3\2\2\2\u02ee\u02ef\3\2\2\2\u02ef"+
+		"\u02f0\t\37\2\2\u02f0\u02f1\7\65\2\2\u02f1\u02f5\3\2\2\2\u02f2\u02f3\7"+
+		"\17\2\2\u02f3\u02f6\7\f\2\2\u02f4\u02f6\t\3\2\2\u02f5\u02f2\3\2\2\2\u02f5"+
+		"\u02f4\3\2\2\2\u02f5\u02f6\3\2\2\2\u02f6\u02f8\3\2\2\2\u02f7\u02e1\3\2"+
+		"\2\2\u02f7\u02e2\3\2\2\2\u02f8J\3\2\2\2\u02f9\u0310\t\"\2\2\u02fa\u0305"+
+		"\7^\2\2\u02fb\u02fc\7\62\2\2\u02fc\u02fd\7\62\2\2\u02fd\u02fe\7\62\2\2"+
+		"\u02fe\u0306\7\62\2\2\u02ff\u0300\7\62\2\2\u0300\u0301\7\62\2\2\u0301"+
+		"\u0306\7\62\2\2\u0302\u0303\7\62\2\2\u0303\u0306\7\62\2\2\u0304\u0306"+
+		"\7\62\2\2\u0305\u02fb\3\2\2\2\u0305\u02ff\3\2\2\2\u0305\u0302\3\2\2\2"+
+		"\u0305\u0304\3\2\2\2\u0306\u0307\3\2\2\2\u0307\u0308\t\37\2\2\u0308\u0309"+
+		"\7\66\2\2\u0309\u030d\3\2\2\2\u030a\u030b\7\17\2\2\u030b\u030e\7\f\2\2"+
+		"\u030c\u030e\t\3\2\2\u030d\u030a\3\2\2\2\u030d\u030c\3\2\2\2\u030d\u030e"+
+		"\3\2\2\2\u030e\u0310\3\2\2\2\u030f\u02f9\3\2\2\2\u030f\u02fa\3\2\2\2\u0310"+
+		"L\3\2\2\2\u0311\u0328\t#\2\2\u0312\u031d\7^\2\2\u0313\u0314\7\62\2\2\u0314"+
+		"\u0315\7\62\2\2\u0315\u0316\7\62\2\2\u0316\u031e\7\62\2\2\u0317\u0318"+
+		"\7\62\2\2\u0318\u0319\7\62\2\2\u0319\u031e\7\62\2\2\u031a\u031b\7\62\2"+
+		"\2\u031b\u031e\7\62\2\2\u031c\u031e\7\62\2\2\u031d\u0313\3\2\2\2\u031d"+
+		"\u0317\3\2\2\2\u031d\u031a\3\2\2\2\u031d\u031c\3\2\2\2\u031e\u031f\3\2"+
+		"\2\2\u031f\u0320\t\37\2\2\u0320\u0321\7\67\2\2\u0321\u0325\3\2\2\2\u0322"+
+		"\u0323\7\17\2\2\u0323\u0326\7\f\2\2\u0324\u0326\t\3\2\2\u0325\u0322\3"+
+		"\2\2\2\u0325\u0324\3\2\2\2\u0325\u0326\3\2\2\2\u0326\u0328\3\2\2\2\u0327"+
+		"\u0311\3\2\2\2\u0327\u0312\3\2\2\2\u0328N\3\2\2\2\u0329\u0340\t$\2\2\u032a"+
+		"\u0335\7^\2\2\u032b\u032c\7\62\2\2\u032c\u032d\7\62\2\2\u032d\u032e\7"+
+		"\62\2\2\u032e\u0336\7\62\2\2\u032f\u0330\7\62\2\2\u0330\u0331\7\62\2\2"+
+		"\u0331\u0336\7\62\2\2\u0332\u0333\7\62\2\2\u0333\u0336\7\62\2\2\u0334"+
+		"\u0336\7\62\2\2\u0335\u032b\3\2\2\2\u0335\u032f\3\2\2\2\u0335\u0332\3"+
+		"\2\2\2\u0335\u0334\3\2\2\2\u0336\u0337\3\2\2\2\u0337\u0338\t\37\2\2\u0338"+
+		"\u0339\7:\2\2\u0339\u033d\3\2\2\2\u033a\u033b\7\17\2\2\u033b\u033e\7\f"+
+		"\2\2\u033c\u033e\t\3\2\2\u033d\u033a\3\2\2\2\u033d\u033c\3\2\2\2\u033d"+
+		"\u033e\3\2\2\2\u033e\u0340\3\2\2\2\u033f\u0329\3\2\2\2\u033f\u032a\3\2"+
+		"\2\2\u0340P\3\2\2\2\u0341\u0358\t%\2\2\u0342\u034d\7^\2\2\u0343\u0344"+
+		"\7\62\2\2\u0344\u0345\7\62\2\2\u0345\u0346\7\62\2\2\u0346\u034e\7\62\2"+
+		"\2\u0347\u0348\7\62\2\2\u0348\u0349\7\62\2\2\u0349\u034e\7\62\2\2\u034a"+
+		"\u034b\7\62\2\2\u034b\u034e\7\62\2\2\u034c\u034e\7\62\2\2\u034d\u0343"+
+		"\3\2\2\2\u034d\u0347\3\2\2\2\u034d\u034a\3\2\2\2\u034d\u034c\3\2\2\2\u034e"+
+		"\u034f\3\2\2\2\u034f\u0350\t\37\2\2\u0350\u0351\t\17\2\2\u0351\u0355\3"+
+		"\2\2\2\u0352\u0353\7\17\2\2\u0353\u0356\7\f\2\2\u0354\u0356\t\3\2\2\u0355"+
+		"\u0352\3\2\2\2\u0355\u0354\3\2\2\2\u0355\u0356\3\2\2\2\u0356\u0358\3\2"+
+		"\2\2\u0357\u0341\3\2\2\2\u0357\u0342\3\2\2\2\u0358R\3\2\2\2\u0359\u035a"+
+		"\5\'\24\2\u035aT\3\2\2\2\u035b\u035c\7\61\2\2\u035c\u035d\7,\2\2\u035d"+
+		"\u0361\3\2\2\2\u035e\u0360\n\t\2\2\u035f\u035e\3\2\2\2\u0360\u0363\3\2"+
+		"\2\2\u0361\u035f\3\2\2\2\u0361\u0362\3\2\2\2\u0362\u0365\3\2\2\2\u0363"+
+		"\u0361\3\2\2\2\u0364\u0366\7,\2\2\u0365\u0364\3\2\2\2\u0366\u0367\3\2"+
+		"\2\2\u0367\u0365\3\2\2\2\u0367\u0368\3\2\2\2\u0368\u0377\3\2\2\2\u0369"+
+		"\u036d\n\n\2\2\u036a\u036c\n\t\2\2\u036b\u036a\3\2\2\2\u036c\u036f\3\2"+
+		"\2\2\u036d\u036b\3\2\2\2\u036d\u036e\3\2\2\2\u036e\u0371\3\2\2\2\u036f"+
+		"\u036d\3\2\2\2\u0370\u0372\7,\2\2\u0371\u0370\3\2\2\2\u0372\u0373\3\2"+
+		"\2\2\u0373\u0371\3\2\2\2\u0373\u0374\3\2\2\2\u0374\u0376\3\2\2\2\u0375"+
+		"\u0369\3\2\2\2\u0376\u0379\3\2\2\2\u0377\u0375\3\2\2\2\u0377\u0378\3\2"+
+		"\2\2\u0378\u037a\3\2\2\2\u0379\u0377\3\2\2\2\u037a\u037b\7\61\2\2\u037b"+
+		"\u037c\3\2\2\2\u037c\u037d\b+\2\2\u037dV\3\2\2\2\u037e\u0381\5\27\f\2"+
+		"\u037f\u0381\5\31\r\2\u0380\u037e\3\2\2\2\u0380\u037f\3\2\2\2\u0381\u0382"+
+		"\3\2\2\2\u0382\u0383\b,\2\2\u0383X\3\2\2\2\u0384\u0385\7>\2\2\u0385\u0386"+
+		"\7#\2\2\u0386\u0387\7/\2\2\u0387\u0388\7/\2\2\u0388Z\3\2\2\2\u0389\u038a"+
+		"\7/\2\2\u038a\u038b\7/\2\2\u038b\u038c\7@\2\2\u038c\\\3\2\2\2\u038d\u038e"+
+		"\7\u0080\2\2\u038e\u038f\7?\2\2\u038f^\3\2\2\2\u0390\u0391\7~\2\2\u0391"+
+		"\u0392\7?\2\2\u0392`\3\2\2\2\u0393\u0396\5\17\b\2\u0394\u0396\5\21\t\2"+
+		"\u0395\u0393\3\2\2\2\u0395\u0394\3\2\2\2\u0396b\3\2\2\2\u0397\u039a\5"+
+		"\23\n\2\u0398\u039a\5\25\13\2\u0399\u0397\3\2\2\2\u0399\u0398\3\2\2\2"+
+		"\u039ad\3\2\2\2\u039b\u039d\7/\2\2\u039c\u039b\3\2\2\2\u039c\u039d\3\2"+
+		"\2\2\u039d\u039e\3\2\2\2\u039e\u03a2\5\13\6\2\u039f\u03a1\5\r\7\2\u03a0"+
+		"\u039f\3\2\2\2\u03a1\u03a4\3\2\2\2\u03a2\u03a0\3\2\2\2\u03a2\u03a3\3\2"+
+		"\2\2\u03a3f\3\2\2\2\u03a4\u03a2\3\2\2\2\u03a5\u03a6\7%\2\2\u03a6\u03a7"+
+		"\5!\21\2\u03a7h\3\2\2\2\u03a8\u03a9\7B\2\2\u03a9\u03aa\59\35\2\u03aa\u03ab"+
+		"\5? \2\u03ab\u03ac\5E#\2\u03ac\u03ad\5C\"\2\u03ad\u03ae\5G$\2\u03ae\u03af"+
+		"\5K&\2\u03afj\3\2\2\2\u03b0\u03b1\7B\2\2\u03b1\u03b2\5E#\2\u03b2\u03b3"+
+		"\5-\27\2\u03b3\u03b4\5\65\33\2\u03b4\u03b5\5\63\32\2\u03b5l\3\2\2\2\u03b6"+
+		"\u03b7\7B\2\2\u03b7\u03b8\5? \2\u03b8\u03b9\5\63\32\2\u03b9\u03ba\5\61"+
+		"\31\2\u03ba\u03bb\59\35\2\u03bb\u03bc\5-\27\2\u03bcn\3\2\2\2\u03bd\u03be"+
+		"\7B\2\2\u03be\u03bf\7e\2\2\u03bf\u03c0\7j\2\2\u03c0\u03c1\7c\2\2\u03c1"+
+		"\u03c2\7t\2\2\u03c2\u03c3\7u\2\2\u03c3\u03c4\7g\2\2\u03c4\u03c5\7v\2\2"+
+		"\u03c5p\3\2\2\2\u03c6\u03cb\7#\2\2\u03c7\u03ca\5)\25\2\u03c8\u03ca\5U"+
+		"+\2\u03c9\u03c7\3\2\2\2\u03c9\u03c8\3\2\2\2\u03ca\u03cd\3\2\2\2\u03cb"+
+		"\u03c9\3\2\2\2\u03cb\u03cc\3\2\2\2\u03cc\u03ce\3\2\2\2\u03cd\u03cb\3\2"+
+		"\2\2\u03ce\u03cf\59\35\2\u03cf\u03d0\5? \2\u03d0\u03d1\5E#\2\u03d1\u03d2"+
+		"\5C\"\2\u03d2\u03d3\5G$\2\u03d3\u03d4\5K&\2\u03d4\u03d5\5-\27\2\u03d5"+
+		"\u03d6\5A!\2\u03d6\u03d7\5K&\2\u03d7r\3\2\2\2\u03d8\u03d9\5#\22\2\u03d9"+
+		"\u03da\5\63\32\2\u03da\u03db\5? \2\u03dbt\3\2\2\2\u03dc\u03dd\5#\22\2"+
+		"\u03dd\u03de\5\63\32\2\u03de\u03df\5O(\2\u03dfv\3\2\2\2\u03e0\u03e1\5"+
+		"#\22\2\u03e1\u03e2\5E#\2\u03e2\u03e3\5O(\2\u03e3\u03f9\3\2\2\2\u03e4\u03e5"+
+		"\5#\22\2\u03e5\u03e6\5/\30\2\u03e6\u03e7\5? \2\u03e7\u03f9\3\2\2\2\u03e8"+
+		"\u03e9\5#\22\2\u03e9\u03ea\5? \2\u03ea\u03eb\5? \2\u03eb\u03f9\3\2\2\2"+
+		"\u03ec\u03ed\5#\22\2\u03ed\u03ee\59\35\2\u03ee\u03ef\5A!\2\u03ef\u03f9"+
+		"\3\2\2\2\u03f0\u03f1\5#\22\2\u03f1\u03f2\5E#\2\u03f2\u03f3\5K&\2\u03f3"+
+		"\u03f9\3\2\2\2\u03f4\u03f5\5#\22\2\u03f5\u03f6\5E#\2\u03f6\u03f7\5/\30"+
+		"\2\u03f7\u03f9\3\2\2\2\u03f8\u03e0\3\2\2\2\u03f8\u03e4\3\2\2\2\u03f8\u03e8"+
+		"\3\2\2\2\u03f8\u03ec\3\2\2\2\u03f8\u03f0\3\2\2\2\u03f8\u03f4\3\2\2\2\u03f9"+
+		"x\3\2\2\2\u03fa\u03fb\5#\22\2\u03fb\u03fc\5\61\31\2\u03fc\u03fd\5\63\32"+
+		"\2\u03fd\u03fe\5\65\33\2\u03fe\u040b\3\2\2\2\u03ff\u0400\5#\22\2\u0400"+
+		"\u0401\5G$\2\u0401\u0402\5-\27\2\u0402\u0403\5\61\31\2\u0403\u040b\3\2"+
+		"\2\2\u0404\u0405\5#\22\2\u0405\u0406\5\65\33\2\u0406\u0407\5G$\2\u0407"+
+		"\u0408\5-\27\2\u0408\u0409\5\61\31\2\u0409\u040b\3\2\2\2\u040a\u03fa\3"+
+		"\2\2\2\u040a\u03ff\3\2\2\2\u040a\u0404\3\2\2\2\u040bz\3\2\2\2\u040c\u040d"+
+		"\5#\22\2\u040d\u040e\5? \2\u040e\u040f\5I%\2\u040f\u0414\3\2\2\2\u0410"+
+		"\u0411\5#\22\2\u0411\u0412\5I%\2\u0412\u0414\3\2\2\2\u0413\u040c\3\2\2"+
+		"\2\u0413\u0410\3\2\2\2\u0414|\3\2\2\2\u0415\u0416\5#\22\2\u0416\u0417"+
+		"\5\67\34\2\u0417\u0418\5Q)\2\u0418\u041f\3\2\2\2\u0419\u041a\5#\22\2\u041a"+
+		"\u041b\5;\36\2\u041b\u041c\5\67\34\2\u041c\u041d\5Q)\2\u041d\u041f\3\2"+
+		"\2\2\u041e\u0415\3\2\2\2\u041e\u0419\3\2\2\2\u041f~\3\2\2\2\u0420\u0421"+
+		"\5#\22\2\u0421\u0422\5e\63\2\u0422\u0080\3\2\2\2\u0423\u0424\5#\22\2\u0424"+
+		"\u0425\7\'\2\2\u0425\u0082\3\2\2\2\u0426\u0427\5#\22\2\u0427\u0084\3\2"+
+		"\2\2\u0428\u0429\5M\'\2\u0429\u042a\5G$\2\u042a\u042b\5=\37\2\u042b\u042c"+
+		"\7*\2\2\u042c\u042d\5)\25\2\u042d\u042e\5a\61\2\u042e\u042f\5)\25\2\u042f"+
+		"\u0430\7+\2\2\u0430\u043b\3\2\2\2\u0431\u0432\5M\'\2\u0432\u0433\5G$\2"+
+		"\u0433\u0434\5=\37\2\u0434\u0435\7*\2\2\u0435\u0436\5)\25\2\u0436\u0437"+
+		"\5%\23\2\u0437\u0438\5)\25\2\u0438\u0439\7+\2\2\u0439\u043b\3\2\2\2\u043a"+
+		"\u0428\3\2\2\2\u043a\u0431\3\2\2\2\u043b\u0086\3\2\2\2\u043c\u0440\5\33"+
+		"\16\2\u043d\u0440\5\35\17\2\u043e\u0440\5\37\20\2\u043f\u043c\3\2\2\2"+
+		"\u043f\u043d\3\2\2\2\u043f\u043e\3\2\2\2\u0440\u0088\3\2\2\2\u0441\u0442"+
+		"\5e\63\2\u0442\u0443\7*\2\2\u0443\u008a\3\2\2\2\u0444\u0445\7,\2\2\u0445"+
+		"\u008c\3\2\2\2\u0446\u0447\7?\2\2\u0447\u008e\3\2\2\2\u0448\u0449\7\60"+
+		"\2\2\u0449\u0090\3\2\2\2\u044a\u044b\7-\2\2\u044b\u0092\3\2\2\2\u044c"+
+		"\u044d\7@\2\2\u044d\u0094\3\2\2\2\u044e\u044f\7\61\2\2\u044f\u0096\3\2"+
+		"\2\2\u0450\u0451\7.\2\2\u0451\u0098\3\2\2\2\u0452\u0453\7<\2\2\u0453\u009a"+
+		"\3\2\2\2\u0454\u0455\7=\2\2\u0455\u009c\3\2\2\2\u0456\u0457\7*\2\2\u0457"+
+		"\u009e\3\2\2\2\u0458\u0459\7+\2\2\u0459\u00a0\3\2\2\2\u045a\u045b\7}\2"+
+		"\2\u045b\u00a2\3\2\2\2\u045c\u045d\7\177\2\2\u045d\u00a4\3\2\2\2\u045e"+
+		"\u045f\7]\2\2\u045f\u00a6\3\2\2\2\u0460\u0461\7_\2\2\u0461\u00a8\3\2\2"+
+		"\2y\2\u00af\u00b2\u00b5\u00b8\u00bb\u00c1\u00c6\u00cb\u00d0\u00d7\u00d9"+
+		"\u00e3\u00e5\u00ef\u00f1\u00f5\u00fc\u00fe\u0102\u010a\u0110\u0116\u011c"+
+		"\u0120\u0129\u012f\u0135\u013a\u0143\u0147\u0149\u0160\u0163\u0168\u016b"+
+		"\u0170\u0177\u0179\u017e\u0180\u0186\u0189\u018f\u019d\u01a5\u01a7\u01b5"+
+		"\u01bd\u01bf\u01cd\u01d5\u01d7\u01e5\u01ed\u01ef\u01fd\u0205\u0207\u0215"+
+		"\u021d\u021f\u022d\u0235\u0237\u0245\u024d\u024f\u025d\u0265\u0267\u0275"+
+		"\u027d\u027f\u028d\u0295\u0297\u02a5\u02ad\u02af\u02bd\u02c5\u02c7\u02d5"+
+		"\u02dd\u02df\u02ed\u02f5\u02f7\u0305\u030d\u030f\u031d\u0325\u0327\u0335"+
+		"\u033d\u033f\u034d\u0355\u0357\u0361\u0367\u036d\u0373\u0377\u0380\u0395"+
+		"\u0399\u039c\u03a2\u03c9\u03cb\u03f8\u040a\u0413\u041e\u043a\u043f\3\b"+
+		"\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -126,6 +126,28 @@ public class WebRequest extends HttpServletRequestWrapper {
 		return scriptName;
 	}
 	
+	/**
+	 * Returns whether an <code>Accept-Encoding</code> header value accepts gzip content encoding.
+	 */
+	public static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null)
+			return false;
+
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (parts[0].trim().equalsIgnoreCase("gzip")) {
+				for (int i = 1; i < parts.length; ++i) {
+					String p = parts[i].trim().replace(" ", "");
+					if (p.equals("q=0") || p.equals("q=0.0") || p.equals("q=0.00") || p.equals("q=0.000"))
+						return false;
+				}
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	public static String computePathInfo(HttpServletRequest request, Configuration configuration) {
 		String scriptName = computeScriptName(request, configuration);
 		return computePathInfo(request, scriptName, configuration);
@@ -5,11 +5,13 @@
  */
 package eu.webtoolkit.jwt.servlet;
 
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
@@ -38,11 +40,13 @@ import org.slf4j.LoggerFactory;
 public class WebResponse extends HttpServletResponseWrapper {
 	private static Logger logger = LoggerFactory.getLogger(WebResponse.class);
 
-	private OutputStreamWriter outWriter;
+	private Writer outWriter;
 	private HttpServletRequest request;
 	private int id;
 	private ServletOutputStream outputStream;
 	private ResponseType responseType;
+	private GZIPOutputStream gzipStream;
+	private StringBuilder capture;
 
 	/**
 	 * Constructor which wraps a HttpServletResponse.
@@ -130,6 +134,48 @@ public class WebResponse extends HttpServletResponseWrapper {
 		return this.outWriter;
 	}
 
+	/**
+	 * Keeps a copy of the text that is written to {@link #out()}.
+	 * <p>
+	 * This must be called before anything is written to the response.
+	 * 
+	 * @param capture the buffer to which the text is copied.
+	 */
+	public void captureOutput(StringBuilder capture) {
+		this.capture = capture;
+		if (outWriter != null)
+			outWriter = new CapturingWriter(outWriter, capture);
+	}
+
+	/**
+	 * Compresses the response using gzip content encoding.
+	 * <p>
+	 * This only has effect if the client accepts gzip content encoding, and must be called
+	 * before anything is written to the response.
+	 * 
+	 * @return whether the response is compressed.
+	 */
+	public boolean enableCompression() {
+		if (gzipStream != null)
+			return true;
+
+		if (request == null || !WebRequest.acceptsGzip(request.getHeader("Accept-Encoding")))
+			return false;
+
+		try {
+			setHeader("Content-Encoding", "gzip");
+			addHeader("Vary", "Accept-Encoding");
+			gzipStream = new GZIPOutputStream(getOutputStream(), 8192);
+			outWriter = new OutputStreamWriter(gzipStream, "UTF-8");
+			if (capture != null)
+				outWriter = new CapturingWriter(outWriter, capture);
+			return true;
+		} catch (IOException e) {
+			logger.info("IOException enabling compression", e);
+			return false;
+		}
+	}
+
 	/**
 	 * Sets an ID to the WebResponse (used by JWt).
 	 * 
@@ -158,6 +204,8 @@ public class WebResponse extends HttpServletResponseWrapper {
 	public void flush() {
 		try {
 			outWriter.flush();
+			if (gzipStream != null)
+				gzipStream.finish();
 			getOutputStream().flush();
 		} catch (IOException e) {
 			logger.info("IOException in flush", e);
@@ -261,4 +309,31 @@ public class WebResponse extends HttpServletResponseWrapper {
 	public ResponseType getResponseType() { 
 		return this.responseType; 
 	}
+
+	private static class CapturingWriter extends FilterWriter {
+		private final StringBuilder capture;
+
+		CapturingWriter(Writer out, StringBuilder capture) {
+			super(out);
+			this.capture = capture;
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			super.write(c);
+			capture.append((char) c);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			super.write(cbuf, off, len);
+			capture.append(cbuf, off, len);
+		}
+
+		@Override
+		public void write(String str, int off, int len) throws IOException {
+			super.write(str, off, len);
+			capture.append(str, off, off + len);
+		}
+	}
 }
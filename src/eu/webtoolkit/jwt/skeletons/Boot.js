@@ -312,17 +312,27 @@ _$_$if_PROGRESS_$_();
 _$_$endif_$_();
 
     var allInfo = hashInfo + otherInfo + htmlHistoryInfo + deployPathInfo;
+    var loadMainScript = function() {
 _$_$ifnot_SPLIT_SCRIPT_$_();
-    loadScript(selfUrl + allInfo + '&request=script&rand=' + rand(),
-               null);
+      loadScript(selfUrl + allInfo + '&request=script&rand=' + rand(),
+                 null);
 _$_$endif_$_();
 _$_$if_SPLIT_SCRIPT_$_();
-    /* Ideally, we should be able to omit the sessionid too */
-    loadScript(selfUrl + allInfo + '&request=script&skeleton=true',
-               function() {
-                 loadScript(selfUrl + allInfo
-                            + '&request=script&rand=' + rand(), null);
-               });
+      /* Ideally, we should be able to omit the sessionid too */
+      loadScript(selfUrl + allInfo + '&request=script&skeleton=true',
+                 function() {
+                   loadScript(selfUrl + allInfo
+                              + '&request=script&rand=' + rand(), null);
+                 });
+_$_$endif_$_();
+    };
+
+_$_$if_SCRIPT_LIBRARY_$_();
+    /* The session independent part of the script, from a cacheable URL */
+    loadScript(_$_SCRIPT_LIBRARY_URL_$_, loadMainScript);
+_$_$endif_$_();
+_$_$ifnot_SCRIPT_LIBRARY_$_();
+    loadMainScript();
 _$_$endif_$_();
   }
 }
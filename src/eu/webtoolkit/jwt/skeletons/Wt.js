@@ -1,3 +1,4 @@
+_$_$if_LIBRARY_$_();
 
 /**
  * @preserve Copyright (C) 2010 Emweb bv, Herent, Belgium.
@@ -2369,6 +2370,8 @@ _$_$endif_$_();
 
 })();
 
+_$_$endif_$_()
+_$_$if_SESSION_$_();
 if (window._$_APP_CLASS_$_ && window._$_APP_CLASS_$_._p_) {
   try {
     window._$_APP_CLASS_$_._p_.quit(null);
@@ -3136,6 +3139,7 @@ var websocket = {
   state: WebSocketUnknown,
   socket: null,
   keepAlive: null,
+  pingInterval: _$_SERVER_PUSH_TIMEOUT_$_,
   reconnectTries: 0
 };
 
@@ -3162,6 +3166,43 @@ function doJavaScript(js) {
     doAutoJavaScript();
 }
 
+/*
+ * Encodes an update as a binary web socket frame: a version byte followed
+ * by the (URL decoded) parameters, each as a varint length prefixed UTF-8 key
+ * and value. This saves the server from splitting and URL decoding the
+ * update.
+ */
+function encodeWsFrame(data) {
+  var encoder = new TextEncoder(), parts = [], size = 1, i, p, eq;
+
+  var pairs = data.split('&');
+  for (i = 0; i < pairs.length; ++i) {
+    p = pairs[i];
+    if (p.length == 0)
+      continue;
+
+    eq = p.indexOf('=');
+    parts.push(encoder.encode(eq == -1 ? p : p.substring(0, eq)),
+	       encoder.encode(eq == -1 ? '' : decodeURIComponent(p.substring(eq + 1))));
+    size += 10 + parts[parts.length - 2].length + parts[parts.length - 1].length;
+  }
+
+  var frame = new Uint8Array(size), pos = 0;
+  frame[pos++] = 1;
+  for (i = 0; i < parts.length; ++i) {
+    var n = parts[i].length;
+    while (n >= 0x80) {
+      frame[pos++] = (n & 0x7F) | 0x80;
+      n >>>= 7;
+    }
+    frame[pos++] = n;
+    frame.set(parts[i], pos);
+    pos += parts[i].length;
+  }
+
+  return frame.subarray(0, pos);
+}
+
 function webSocketAckConnect() {
   nextWsRqId = 0;
   pendingWsRequests = {};
@@ -3329,7 +3370,19 @@ function schedulePing() {
 	clearInterval(websocket.keepAlive);
 	websocket.keepAlive = null;
       }
-    }, _$_SERVER_PUSH_TIMEOUT_$_);
+    }, websocket.pingInterval);
+}
+
+/*
+ * The server replies to a ping with the interval for the next pings, which
+ * is longer for an idle session.
+ */
+function setPingInterval(interval) {
+  if (interval != websocket.pingInterval) {
+    websocket.pingInterval = interval;
+    if (websocket.keepAlive)
+      schedulePing();
+  }
 }
 
 function scheduleUpdate() {
@@ -3626,7 +3679,10 @@ function sendUpdate() {
 	data += '&wsRqId=' + wsRqId;
       }
 
-      websocket.socket.send(data);
+      if (typeof TextEncoder !== UNDEFINED)
+	websocket.socket.send(encodeWsFrame(data));
+      else
+	websocket.socket.send(data);
     }
   } else {
     if (responsePending) {
@@ -4101,6 +4157,7 @@ this._p_ = {
   addTimerEvent : addTimerEvent,
   load : load,
   setServerPush : setServerPush,
+  setPingInterval : setPingInterval,
 
   touchStart :touchStart,
   touchEnded: touchEnded,
@@ -4142,3 +4199,4 @@ window._$_APP_CLASS_$_SignalEmit = _$_APP_CLASS_$_.emit;
 window._$_APP_CLASS_$_OnLoad = function() {
   _$_APP_CLASS_$_._p_.load();
 };
+_$_$endif_$_()
\ No newline at end of file
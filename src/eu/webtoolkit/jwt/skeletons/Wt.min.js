@@ -1,4 +1,4 @@
-/*
+_$_$if_LIBRARY_$_();/*
  Copyright (C) 2010 Emweb bv, Herent, Belgium.
 
  For terms of use, see LICENSE.
@@ -72,7 +72,7 @@ n(q)},getCurrentState:function(){return e}}}()}else this.history=k.isIE8?functio
 null}function b(){x.value=X+"|"+I}function e(){var s,B;s=0;for(B=ma.length;s<B;++s)ma[s](unescape(I))}function g(s){if(s){if(!s||I!==s){I=s||X;e()}}else{I=X;e()}}function h(s){var B;s='<html><body><div id="state">'+s+"</div></body></html>";try{B=v.contentWindow.document;B.open();B.write(s);B.close();return true}catch(S){return false}}function n(){var s,B,S,ba;if(!v.contentWindow||!v.contentWindow.document)setTimeout(n,10);else{s=v.contentWindow.document;S=(B=s.getElementById("state"))?B.innerText:
 null;ba=a();setInterval(function(){var Fa,D;s=v.contentWindow.document;Fa=(B=s.getElementById("state"))?B.innerText:null;D=a();if(Fa!==S){S=Fa;g(S);D=S?S:X;if(location.hash!=D&&location.hash.substring(1)!=D)location.hash=D;ba=D;b()}else if(D!==ba){ba=D;h(D)}},50);y=true;u!=null&&u()}}function p(){if(!q){var s=a(),B=history.length;J&&clearInterval(J);J=setInterval(function(){var S,ba;S=a();ba=history.length;if(S!==s){s=S;B=ba;g(s);b()}},50)}}function r(){var s;s=x.value.split("|");if(s.length>1){X=
 s[0];I=s[1]}else X=I="";if(s.length>2)Q=s[2].split(",");if(q)n();else{p();y=true;u!=null&&u()}}var q=k.isIElt9,w=false,u=null,v=null,x=null,y=false,J=null,Q=[],X,I,ma=[];return{_initialize:function(){x!=null&&r()},_initTimeout:function(){p()},register:function(s,B){if(!y)I=X=escape(s);ma.push(B)},initialize:function(s,B){if(!y){if((navigator.vendor||"")!=="KDE")if(typeof window.opera!=="undefined")w=true;if(typeof s==="string")s=document.getElementById(s);if(!(!s||s.tagName.toUpperCase()!=="TEXTAREA"&&
-(s.tagName.toUpperCase()!=="INPUT"||s.type!=="hidden"&&s.type!=="text"))){x=s;if(q){if(typeof B==="string")B=document.getElementById(B);!B||B.tagName.toUpperCase()!=="IFRAME"||(v=B)}}}},navigate:function(s,B){s=Ma(s);if(y){s=s;if(q)h(s);else if(s.length>0)location.hash=s;B&&e()}},getCurrentState:function(){if(!y)return"";return unescape(I)}}}()});if(window._$_APP_CLASS_$_&&window._$_APP_CLASS_$_._p_)try{window._$_APP_CLASS_$_._p_.quit(null)}catch(e$$35){}
+(s.tagName.toUpperCase()!=="INPUT"||s.type!=="hidden"&&s.type!=="text"))){x=s;if(q){if(typeof B==="string")B=document.getElementById(B);!B||B.tagName.toUpperCase()!=="IFRAME"||(v=B)}}}},navigate:function(s,B){s=Ma(s);if(y){s=s;if(q)h(s);else if(s.length>0)location.hash=s;B&&e()}},getCurrentState:function(){if(!y)return"";return unescape(I)}}}()});_$_$endif_$_()_$_$if_SESSION_$_();if(window._$_APP_CLASS_$_&&window._$_APP_CLASS_$_._p_)try{window._$_APP_CLASS_$_._p_.quit(null)}catch(e$$35){}
 window._$_APP_CLASS_$_=new (function(){function T(c){c=t.pageCoordinates(c);Ya=c.x;Za=c.y}function U(){var c=_$_WT_CLASS_$_.history.getCurrentState();if(!(c!=null&&c.length>0&&c.substr(0,1)!="/"))if(ga!=c){ga=c;setTimeout(function(){wa(null,"hash",null,true)},1)}}function G(c,d){if(!(ga==c||!ga&&c=="/")){d||(ga=c);t.history.navigate(c,d)}}function N(c,d){Ga=setTimeout(function(){ja(c,d)},fb)}function fa(){Ga&&clearTimeout(Ga)}function ja(c,d){if(d.touches)if("vibrate"in navigator){navigator.vibrate=
 navigator.vibrate||navigator.webkitVibrate||navigator.mozVibrate||navigator.msVibrate;navigator.vibrate&&navigator.vibrate(100)}if((d.ctrlKey||t.button(d)>1)&&!d.touches)return true;var f=t.target(d);if(f)if(t.css(f,"display")!=="inline"&&(f.offsetWidth>f.clientWidth||f.offsetHeight>f.clientHeight)){var m=t.widgetPageCoordinates(f),l=t.pageCoordinates(d),o=l.y-m.y;if(l.x-m.x>f.clientWidth||o>f.clientHeight)return true}f=Ha;f.object=t.getElement(c.getAttribute("dwid"));if(f.object==null)return true;
 f.sourceId=c.getAttribute("dsid");f.objectPrevStyle={position:f.object.style.position,display:f.object.style.display,left:f.object.style.left,top:f.object.style.top,className:f.object.className,parent:f.object.parentNode,zIndex:f.object.zIndex};f.object.parentNode.removeChild(f.object);f.object.style.position="absolute";f.object.className=f.objectPrevStyle.className+"";f.object.style.zIndex="200000";document.body.appendChild(f.object);t.capture(null);t.capture(f.object);f.object.onmousemove=ra;f.object.onmouseup=
@@ -94,16 +94,16 @@ return c}function Ra(c){for(var d,f="",m=false,l=0;l<E.length;++l){d=l>0?"&e"+l:
 Pa*1E3)}}function Da(){var c=true;if(Pa!==null){ha=setTimeout(k,Pa*1E3);try{var d=Object.defineProperty({},"passive",{get:function(){c={capture:true,passive:true}}});window.addEventListener("test",d,d);window.removeEventListener("test",d,d)}catch(f){c=true}if(document.addEventListener){document.addEventListener("mousedown",P,c);document.addEventListener("mouseup",P,c);document.addEventListener("wheel",P,c);document.addEventListener("keydown",P,c);document.addEventListener("keyup",P,c);document.addEventListener("touchstart",
 P,c);document.addEventListener("touchend",P,c);document.addEventListener("pointerdown",P,c);document.addEventListener("pointerup",P,c)}}}function ua(c){if(!$a){if(c){if(!window._$_APP_CLASS_$_LoadWidgetTree)return;t.history.initialize("Wt-history-field","Wt-history-iframe",ab)}if(!("activeElement"in document)){function d(m){if(m&&m.target)document.activeElement=m.target==document?null:m.target}function f(){document.activeElement=null}document.addEventListener("focus",d,true);document.addEventListener("blur",
 f,true)}$(document).mousedown(t.mouseDown).mouseup(t.mouseUp);t.history._initialize();Da();$a=true;c&&window._$_APP_CLASS_$_LoadWidgetTree();ca||Ia||(Ia=setInterval(Sa,_$_KEEP_ALIVE_$_000))}}function V(c){clearTimeout(c);document.body.style.cursor="auto";if(ia!=null){try{ia()}catch(d){}ia=null}}function la(){document.body.style.cursor="wait";ia=hideLoadingIndicator;showLoadingIndicator()}function W(){var c=Date.now(),d=-1;for(var f in da)if(da.hasOwnProperty(f)){if(c-da[f].time>=_$_INDICATOR_TIMEOUT_$_){ia==
-null&&la();return}var m=parseInt(f,10);if(m>d)d=m}Ka=d+1;document.body.style.cursor="auto";if(ia!=null){try{ia()}catch(l){}ia=null}}function na(c){Qa=c}function oa(){D._p_.autoJavaScript()}function Ea(c){if(c){c="(function() {"+c+"})();";window.execScript?window.execScript(c):window.eval(c)}D==window._$_APP_CLASS_$_&&oa()}function va(){Ka=0;da={};z.socket.send("&signal=none&connected="+Z);z.state=3}function O(c,d,f){if(C)C.onStatusChange("connectionStatus",c==0?1:0);if(!ca)if(qa)setTimeout(function(){O(c,
+null&&la();return}var m=parseInt(f,10);if(m>d)d=m}Ka=d+1;document.body.style.cursor="auto";if(ia!=null){try{ia()}catch(l){}ia=null}}function na(c){Qa=c}function oa(){D._p_.autoJavaScript()}function Ea(c){if(c){c="(function() {"+c+"})();";window.execScript?window.execScript(c):window.eval(c)}D==window._$_APP_CLASS_$_&&oa()}function encodeWsFrame(c){var d=new TextEncoder,f=[],m=1,l,o,p;var t=c.split("&");for(l=0;l<t.length;++l){o=t[l];if(o.length!=0){p=o.indexOf("=");f.push(d.encode(p==-1?o:o.substring(0,p)),d.encode(p==-1?"":decodeURIComponent(o.substring(p+1))));m+=10+f[f.length-2].length+f[f.length-1].length}}var g=new Uint8Array(m),k=0;g[k++]=1;for(l=0;l<f.length;++l){var n=f[l].length;for(;n>=128;){g[k++]=n&127|128;n>>>=7}g[k++]=n;g.set(f[l],k);k+=f[l].length}return g.subarray(0,k)}function va(){Ka=0;da={};z.socket.send("&signal=none&connected="+Z);z.state=3}function O(c,d,f){if(C)C.onStatusChange("connectionStatus",c==0?1:0);if(!ca)if(qa)setTimeout(function(){O(c,
 d,f)},50);else{if(M){clearTimeout(M);M=null}if(c==0){t.resolveRelativeAnchors();_$_$if_CATCH_ERROR_$_();try{_$_$endif_$_();Ea(d);_$_$if_CATCH_ERROR_$_()}catch(m){var l=m.description||m.message,o={exception_code:m.code,exception_description:l,exception_js:d};o.stack=m.stack||m.stacktrace;n(o,"Wt internal error; code: "+m.code+", description: "+l);throw m;}_$_$endif_$_();f&&V(f)}else E=Na.concat(E);Na=[];F=null;if(c>0)++Ja;else Ja=0;if(!ca){z.state==2&&va();if(Qa&&!qa||E.length>0)if(c==1){l=Math.min(12E4,
 Math.exp(Ja)*500);ea=setTimeout(function(){p()},l)}else ea==null&&p()}}}function Ca(c){ya=c.indexOf("://")!=-1||c[0]=="/"?c:ab+c;pa&&pa.setUrl(c)}function ka(){F.abort();M=F=null;ca||p()}function Ta(c){C=c;C.status={};C.status.connectionStatus=0;C.status.websocket=false;C.onStatusChange=function(d,f){var m=C.status[d];if(m!=f){C.status[d]=f;C.onChange(d,m,f)}}}function wa(c,d,f,m){w();if(!Va){Va=true;t.checkReleaseCapture(c,f);_$_$if_STRICTLY_SERIALIZED_EVENTS_$_();if(!F){_$_$endif_$_();var l={},
-o=E.length;l.object=c;l.signal=d;l.event=window.fakeEvent||f;l.feedback=m;l.evAckId=Z;E[o]=Aa(l,o);b();Ea();_$_$if_STRICTLY_SERIALIZED_EVENTS_$_()}_$_$endif_$_();Va=false}}function a(){z.keepAlive&&clearInterval(z.keepAlive);z.keepAlive=setInterval(function(){var c=z.socket;if(c.readyState==1)c.send("&signal=ping");else{clearInterval(z.keepAlive);z.keepAlive=null}},_$_SERVER_PUSH_TIMEOUT_$_)}function b(){if(ca){if(Oa){if(confirm(Oa))document.location=document.location;Oa=null}}else{_$_$if_WEB_SOCKETS_$_();
+o=E.length;l.object=c;l.signal=d;l.event=window.fakeEvent||f;l.feedback=m;l.evAckId=Z;E[o]=Aa(l,o);b();Ea();_$_$if_STRICTLY_SERIALIZED_EVENTS_$_()}_$_$endif_$_();Va=false}}function a(){z.keepAlive&&clearInterval(z.keepAlive);z.keepAlive=setInterval(function(){var c=z.socket;if(c.readyState==1)c.send("&signal=ping");else{clearInterval(z.keepAlive);z.keepAlive=null}},z.pingInterval)}function setPingInterval(c){if(c!=z.pingInterval){z.pingInterval=c;z.keepAlive&&a()}}function b(){if(ca){if(Oa){if(confirm(Oa))document.location=document.location;Oa=null}}else{_$_$if_WEB_SOCKETS_$_();
 if(z.state!=4)if(typeof window.WebSocket==="undefined"&&typeof window.MozWebSocket==="undefined")z.state=4;else{var c=z.socket;if(c==null||c.readyState>1)if(c!=null&&z.state==0)z.state=4;else{function d(){if(!ca){++z.reconnectTries;var l=Math.min(12E4,Math.exp(z.reconnectTries)*500);setTimeout(function(){b()},l)}}var f;if(ya.indexOf("://")!=-1)f="ws"+ya.substr(4);else{f=ya.substr(ya.indexOf("?"));f="ws"+location.protocol.substr(4)+"//"+location.host+_$_WS_PATH_$_+f}f+="&request=ws";var m=_$_WS_ID_$_;
 if(m.length>0)f+="&wsid="+m;z.socket=typeof window.WebSocket!=="undefined"?(c=new WebSocket(f)):(c=new MozWebSocket(f));z.state=1;z.keepAlive&&clearInterval(z.keepAlive);z.keepAlive=null;c.onmessage=function(l){var o=null;if(z.state==1)if(l.data=="connect"){if(F!=null&&M!=null){clearTimeout(M);M=null;F.abort();F=null}if(F||!$.isEmptyObject(da))z.state=2;else va()}else{console.log("WebSocket: was expecting a connect?");console.log(l.data);return}else{if(C){C.onStatusChange("websocket",true);C.onStatusChange("connectionStatus",
 1)}z.state=3;o=l.data}z.reconnectTries=0;o!=null&&O(0,o,null)};c.onerror=function(){C&&C.onStatusChange("websocket",false);if(z.reconnectTries==3&&z.state==0)z.state=4;d()};c.onclose=function(){C&&C.onStatusChange("websocket",false);if(z.reconnectTries==3&&z.state==0)z.state=4;d()};c.onopen=function(){if(C){C.onStatusChange("websocket",true);C.onStatusChange("connectionStatus",1)}a()}}if(c.readyState==1&&c.state==3){a();p();return}}_$_$endif_$_();if(F!=null&&M!=null){clearTimeout(M);M=null;F.abort();
 F=null}if(F==null)if(ea==null){ea=setTimeout(function(){p()},t.updateDelay);bb=(new Date).getTime()}else if(Ja){clearTimeout(ea);ea=null;p()}else if((new Date).getTime()-bb>t.updateDelay){clearTimeout(ea);ea=null;p()}}}function e(c,d){Wa=d;Z=c;pa.responseReceived(c)}function g(){for(var c=0;c<arguments.length;++c){var d=arguments[c];if(d in da){clearTimeout(da[d].tm);delete da[d]}}W()}function h(c){cb=c}function n(c,d){F=pa.sendUpdate("request=jserror&err="+encodeURIComponent(JSON.stringify(c)),false,
 Z,-1);_$_$if_SHOW_ERROR_$_();alert(d);_$_$endif_$_()}function p(){function c(){return"_$_PARAMS_$_"}if(D!=window._$_APP_CLASS_$_)Ba(null);else if(!F){ea=null;if(!ca){var d="",f,m,l=z.socket!==null&&z.socket.readyState===1&&z.state===3;l||(d+="&ackId="+Z);d+="&pageId="+cb;if(Wa){f="";if(m=$("#"+Wa).get(0))for(m=m.parentNode;!t.hasTag(m,"BODY");m=m.parentNode)if(m.id){if(f!="")f+=",";f+=m.id}d+="&ackPuzzle="+encodeURIComponent(f)}f=c();if(f.length>0)d+="&Wt-params="+encodeURIComponent(f);if(E.length>
-0){f=_$_MAX_FORMDATA_SIZE_$_-d.length;if(l)f-=("&wsRqId="+Ka).length;m=Ra(f);f=m.feedback?setTimeout(l?W:la,_$_INDICATOR_TIMEOUT_$_):null;d+=m.result;m=false}else{d+="&signal=poll";f=null;m=true}if(l){F=null;if(!m){if(f){l=Ka;da[l]={time:Date.now(),tm:f};++Ka;d+="&wsRqId="+l}z.socket.send(d)}}else{if(F)try{throw new Error("responsePending is true before comm.sendUpdate");}catch(o){d=o.description||o.message;l={exception_description:d};l.stack=o.stack||o.stacktrace;n(l,"Wt internal error; description: "+
+0){f=_$_MAX_FORMDATA_SIZE_$_-d.length;if(l)f-=("&wsRqId="+Ka).length;m=Ra(f);f=m.feedback?setTimeout(l?W:la,_$_INDICATOR_TIMEOUT_$_):null;d+=m.result;m=false}else{d+="&signal=poll";f=null;m=true}if(l){F=null;if(!m){if(f){l=Ka;da[l]={time:Date.now(),tm:f};++Ka;d+="&wsRqId="+l}z.socket.send(typeof TextEncoder!=="undefined"?encodeWsFrame(d):d)}}else{if(F)try{throw new Error("responsePending is true before comm.sendUpdate");}catch(o){d=o.description||o.message;l={exception_description:d};l.stack=o.stack||o.stacktrace;n(l,"Wt internal error; description: "+
 d);throw o;}M=m?setTimeout(ka,_$_SERVER_PUSH_TIMEOUT_$_):null;F=1;F=pa.sendUpdate("request=jsupdate"+d,f,Z,-1)}}}}function r(c,d,f){if(d==-1)d=c.offsetWidth;if(f==-1)f=c.offsetHeight;if(typeof c.wtWidth==="undefined"||c.wtWidth!=d||typeof c.wtHeight==="undefined"||c.wtHeight!=f){c.wtWidth=d;c.wtHeight=f;d>=0&&f>=0&&q(c,"resized",Math.round(d),Math.round(f))}}function q(c,d){w();var f={},m=E.length;f.signal="user";f.id=typeof c==="string"?c:c==D?"app":c.id;if(typeof d==="object"){f.name=d.name;f.object=
 d.eventObject;f.event=d.event}else{f.name=d;f.object=f.event=null}f.args=[];for(var l=2;l<arguments.length;++l){var o=arguments[l];o=o===false?0:o===true?1:o&&o.toDateString?o.toDateString():o;f.args[l-2]=o}f.feedback=true;f.evAckId=Z;E[m]=Aa(f,m);b()}function w(){if(_$_MAX_PENDING_EVENTS_$_>0&&E.length>=_$_MAX_PENDING_EVENTS_$_){n("too many pending events","Wt internal error; description: too many pending events");E=[];throw new Error("too many pending events");}}function u(c,d,f){var m=function(){var o=
 t.getElement(c);if(o){if(f!=-1)o.timer=setTimeout(o.tm,f);else{o.timer=null;o.tm=null}o.onclick&&o.onclick()}},l=t.getElement(c);l.timer&&clearTimeout(l.timer);l.timer=setTimeout(m,d);l.tm=m}function v(c,d){setTimeout(function(){if(za[c]===true){qa=false;d();!qa&&Qa&&p()}else za[c]=d},20);qa=true}function x(c){if(za[c]!==true){if(typeof za[c]!=="undefined"){qa=false;za[c]();!qa&&Qa&&p()}za[c]=true}}function y(c,d,f){function m(){if(!o&&!A){A=true;var Y=f===undefined?t.isIE?1:2:f;if(Y>1)y(c,d,Y-1);
@@ -111,8 +111,8 @@ else{Y={"error-description":"Fatal error: failed loading "+c};n(Y,Y["error-descr
 function J(c,d){this.callback=d;this.work=c.length;this.images=[];if(c.length==0)this.callback(this.images);else for(d=0;d<c.length;d++)this.preload(c[d])}function Q(c,d){this.callback=d;this.work=c.length;this.arrayBuffers=[];if(c.length==0)d(this.arrayBuffers);else for(d=0;d<c.length;d++)this.preload(c[d],d)}function X(c){ga=c;t.history.register(c,U)}function I(c){if(c.ieAlternativeExecuted)return"0";D.emit(c.parentNode,"IeAlternative");c.style.width="";c.ieAlternativeExecuted=true;return"0"}function ma(c){if(!(t.isIEMobile||
 c==""))document.documentElement.lang=c}function s(c){window.onbeforeunload=c&&c!=""?function(d){if(d=d||window.event)d.returnValue=c;return c}:null}function B(c){db=false;c=c==null?$(".Wt-domRoot").get(0).id:c;for(var d=0;d<Xa.length;++d){var f=aa?aa[c]:null,m=null;if(f)m=f[Xa[d]];f=function(l){return function(o){var A=o||window.event;A=A.target||A.srcElement;if(!A|t.hasTag(A,"DIV")||t.hasTag(A,"BODY")||t.hasTag(A,"HTML"))l&&l(o)}};document["on"+Xa[d]]=m?f(m):null}if(aa)for(d in aa)document.getElementById(d)||
 delete aa[d]}function S(c,d,f){var m=false;if(!aa){aa={};m=true}aa[d]||(aa[d]={});aa[d][c]=f;m&&setTimeout(function(){db&&B(null)},0)}function ba(){pa.sendUpdate("request=jsupdate&signal=keepAlive&ackId="+Z,false,Z,-1)}function Fa(c,d,f){if(eb)f();else{La.push(f);La.length===1&&google.load("maps",c,{other_params:"key="+d,callback:function(){eb=true;for(var m=0;m<La.length;++m)La[m]();La=[]}})}}var D=this,t=_$_WT_CLASS_$_,Ya=0,Za=0,ab=_$_DEPLOY_PATH_$_,ga=null,Ha={object:null,sourceId:null,mimeType:null,
-dropOffsetX:null,dragOffsetY:null,dropTarget:null,objectPrevStyle:null,xy:null},Ga,fb=1E3,xa=[],Na=[],E=[],ya,ca=false,Oa=_$_QUITTED_STR_$_,$a=false,F=null,M=null,Ia=null,Pa=_$_IDLE_TIMEOUT_$_,ha=null,Ja=0,Qa=false,ea=null,ia=null,Ka=0,da={},z={state:0,socket:null,keepAlive:null,reconnectTries:0},C=null;Ca(_$_SESSION_URL_$_);var pa=t.initAjaxComm(ya,O),Va=false,bb,Z=_$_ACK_UPDATE_ID_$_,Wa=null,cb=0,za={},qa=false;J.prototype.preload=function(c){var d=new Image;this.images.push(d);d.onload=J.prototype.onload;
+dropOffsetX:null,dragOffsetY:null,dropTarget:null,objectPrevStyle:null,xy:null},Ga,fb=1E3,xa=[],Na=[],E=[],ya,ca=false,Oa=_$_QUITTED_STR_$_,$a=false,F=null,M=null,Ia=null,Pa=_$_IDLE_TIMEOUT_$_,ha=null,Ja=0,Qa=false,ea=null,ia=null,Ka=0,da={},z={state:0,socket:null,keepAlive:null,pingInterval:_$_SERVER_PUSH_TIMEOUT_$_,reconnectTries:0},C=null;Ca(_$_SESSION_URL_$_);var pa=t.initAjaxComm(ya,O),Va=false,bb,Z=_$_ACK_UPDATE_ID_$_,Wa=null,cb=0,za={},qa=false;J.prototype.preload=function(c){var d=new Image;this.images.push(d);d.onload=J.prototype.onload;
 d.onerror=J.prototype.onload;d.onabort=J.prototype.onload;d.imagePreloader=this;d.src=c};J.prototype.onload=function(){var c=this.imagePreloader;--c.work==0&&c.callback(c.images)};J.prototype.cancel=function(){for(var c=this.images,d=0;d<c.length;++d){c[d].onload=function(){};c[d].onerror=function(){};c[d].onabort=function(){}}this.callback=function(){}};Q.prototype.preload=function(c,d){var f=new XMLHttpRequest;f.open("GET",c,true);f.responseType="arraybuffer";f.arrayBuffers=this.arrayBuffers;f.preloader=
 this;f.index=d;f.uri=c;f.onload=function(){console.log("XHR load buffer "+this.index+" from uri "+this.uri);this.arrayBuffers[this.index]=this.response;this.preloader.afterLoad()};f.onerror=Q.prototype.afterload;f.onabort=Q.prototype.afterload;f.send()};Q.prototype.afterLoad=function(){--this.work==0&&this.callback(this.arrayBuffers)};window.onunload=function(){if(!ca){D.emit(D,"Wt-unload");b();p()}};var db=true,aa=null,Xa=["keydown","keyup","keypress"],eb=false,La=[];this._p_={ieAlternative:I,loadScript:y,
-onJsLoad:v,setTitle:Ma,setLocale:ma,update:wa,quit:Ba,setSessionUrl:Ca,setFormObjects:function(c){xa=c},saveDownPos:T,addTimerEvent:u,load:ua,setServerPush:na,touchStart:N,touchEnded:fa,dragStart:ja,dragDrag:ra,dragEnd:sa,capture:t.capture,enableInternalPaths:X,onHashChange:U,setHash:G,ImagePreloader:J,ArrayBufferPreloader:Q,doAutoJavaScript:oa,autoJavaScript:function(){},response:e,wsRqsDone:g,setPage:h,setCloseMessage:s,setConnectionMonitor:Ta,updateGlobal:B,bindGlobal:S,refreshCookie:ba,propagateSize:r,
-loadGoogleMaps:Fa};this.WT=_$_WT_CLASS_$_;this.emit=q});window._$_APP_CLASS_$_SignalEmit=_$_APP_CLASS_$_.emit;window._$_APP_CLASS_$_OnLoad=function(){_$_APP_CLASS_$_._p_.load()};
+onJsLoad:v,setTitle:Ma,setLocale:ma,update:wa,quit:Ba,setSessionUrl:Ca,setFormObjects:function(c){xa=c},saveDownPos:T,addTimerEvent:u,load:ua,setServerPush:na,setPingInterval:setPingInterval,touchStart:N,touchEnded:fa,dragStart:ja,dragDrag:ra,dragEnd:sa,capture:t.capture,enableInternalPaths:X,onHashChange:U,setHash:G,ImagePreloader:J,ArrayBufferPreloader:Q,doAutoJavaScript:oa,autoJavaScript:function(){},response:e,wsRqsDone:g,setPage:h,setCloseMessage:s,setConnectionMonitor:Ta,updateGlobal:B,bindGlobal:S,refreshCookie:ba,propagateSize:r,
+loadGoogleMaps:Fa};this.WT=_$_WT_CLASS_$_;this.emit=q});window._$_APP_CLASS_$_SignalEmit=_$_APP_CLASS_$_.emit;window._$_APP_CLASS_$_OnLoad=function(){_$_APP_CLASS_$_._p_.load()};_$_$endif_$_()
\ No newline at end of file
@@ -5,10 +5,30 @@
  */
 package eu.webtoolkit.jwt.utils;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 public class ThreadUtils {
 	public static void sleep(Duration d) throws InterruptedException {
 		Thread.sleep(d.getSeconds() * 1000L, (int)(d.toNanos() % 1000000L));
 	}
+
+	/**
+	 * Creates an executor that starts a new virtual thread for each task.
+	 * <p>
+	 * Virtual threads are only available on Java 21 or later. The executor is looked up
+	 * reflectively so that JWt can still be built and run on older Java versions.
+	 * 
+	 * @return a virtual thread per task executor, or <code>null</code> if virtual threads are not
+	 *         supported by the running JVM.
+	 */
+	public static Executor newVirtualThreadExecutor() {
+		try {
+			Method m = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (Executor) m.invoke(null);
+		} catch (Exception e) {
+			return null;
+		}
+	}
 }
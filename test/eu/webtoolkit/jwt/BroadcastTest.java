@@ -0,0 +1,76 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+public class BroadcastTest {
+	private static final BroadcastTopic<String> PRICES = new BroadcastTopic<String>("prices");
+	private static final BroadcastTopic<String> NEWS = new BroadcastTopic<String>("news");
+
+	@Test
+	public void testPublish() {
+		Configuration configuration = new Configuration();
+		configuration.setPostExecutor(new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				command.run();
+			}
+		});
+
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		WtServlet servlet = app.getSession().getController();
+
+		final List<String> received = new ArrayList<String>();
+		servlet.subscribe(app, PRICES, new Signal1.Listener<String>() {
+			@Override
+			public void trigger(String price) {
+				received.add(price);
+			}
+		});
+		assertEquals(1, servlet.getSubscriberCount(PRICES));
+
+		assertEquals(1, servlet.publish(PRICES, "42"));
+		assertEquals(0, servlet.publish(NEWS, "hello"));
+		assertEquals(Arrays.asList("42"), received);
+
+		servlet.unsubscribe(app, PRICES);
+		assertEquals(0, servlet.getSubscriberCount(PRICES));
+		assertEquals(0, servlet.publish(PRICES, "43"));
+		assertEquals(Arrays.asList("42"), received);
+
+		env.close();
+	}
+
+	@Test
+	public void testPublishQueueFull() {
+		Configuration configuration = new Configuration();
+		configuration.setEventQueueSize(1);
+		configuration.setPostExecutor(new Executor() {
+			@Override
+			public void execute(Runnable command) {
+			}
+		});
+
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		WtServlet servlet = app.getSession().getController();
+
+		servlet.subscribe(app, PRICES, new Signal1.Listener<Object>() {
+			@Override
+			public void trigger(Object price) {
+			}
+		});
+
+		assertEquals(1, servlet.publish(PRICES, "42"));
+		assertEquals(0, servlet.publish(PRICES, "43"));
+
+		env.close();
+	}
+}
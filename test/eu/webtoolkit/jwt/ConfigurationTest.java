@@ -0,0 +1,64 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ConfigurationTest {
+	@Test
+	public void testAgentIsBot() {
+		Configuration configuration = new Configuration();
+
+		assertTrue(configuration.agentIsBot("Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)"));
+		assertTrue(configuration.agentIsBot("msnbot/2.0b"));
+		assertFalse(configuration.agentIsBot("Mozilla/5.0 (X11; Linux x86_64; rv:91.0) Gecko/20100101 Firefox/91.0"));
+	}
+
+	@Test
+	public void testAgentSupportsAjax() {
+		Configuration configuration = new Configuration();
+		assertTrue(configuration.agentSupportsAjax("Mozilla/5.0 Firefox/91.0"));
+
+		configuration.setAjaxAgentList(new ArrayList<String>(Arrays.asList(".*Firefox.*", ".*Chrome/9[0-9].*")), true);
+		assertTrue(configuration.agentSupportsAjax("Mozilla/5.0 Firefox/91.0"));
+		assertTrue(configuration.agentSupportsAjax("Mozilla/5.0 Chrome/96.0"));
+		assertFalse(configuration.agentSupportsAjax("Mozilla/5.0 Chrome/86.0"));
+
+		configuration.setAjaxAgentList(new ArrayList<String>(Arrays.asList(".*MSIE 6.*")), false);
+		assertFalse(configuration.agentSupportsAjax("Mozilla/4.0 (compatible; MSIE 6.0; Windows NT 5.1)"));
+		assertTrue(configuration.agentSupportsAjax("Mozilla/5.0 Firefox/91.0"));
+	}
+
+	@Test
+	public void testUserAgentCache() {
+		Configuration configuration = new Configuration();
+		String agent = "Mozilla/5.0 Firefox/91.0";
+
+		configuration.agentIsBot(agent);
+		assertEquals(0, configuration.getUserAgentCacheHits());
+		assertEquals(1, configuration.getUserAgentCacheMisses());
+
+		configuration.agentIsBot(agent);
+		configuration.agentIsBot(agent);
+		assertEquals(2, configuration.getUserAgentCacheHits());
+		assertEquals(1, configuration.getUserAgentCacheMisses());
+	}
+
+	@Test
+	public void testBotListModifiedInPlace() {
+		Configuration configuration = new Configuration();
+		String agent = "SomeSpider/1.0";
+
+		assertFalse(configuration.agentIsBot(agent));
+		ArrayList<String> botList = configuration.getBotList();
+		botList.add(".*Spider.*");
+		assertFalse(configuration.agentIsBot(agent));
+		configuration.setBotList(botList);
+		assertTrue(configuration.agentIsBot(agent));
+	}
+}
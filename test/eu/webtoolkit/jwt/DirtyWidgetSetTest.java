@@ -0,0 +1,66 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DirtyWidgetSetTest {
+	@Test
+	public void testOrder() {
+		WTestEnvironment env = new WTestEnvironment(new Configuration());
+		WApplication app = new WApplication(env);
+
+		WContainerWidget a = new WContainerWidget(app.getRoot());
+		WContainerWidget b = new WContainerWidget(a);
+		WText c = new WText("c", b);
+		WText d = new WText("d", app.getRoot());
+		WText orphan = new WText("orphan");
+
+		DirtyWidgetSet set = new DirtyWidgetSet();
+		assertTrue(set.add(c));
+		assertTrue(set.add(orphan));
+		assertTrue(set.add(a));
+		assertTrue(set.add(d));
+		assertFalse(set.add(d));
+		assertEquals(4, set.size());
+
+		List<WWidget> sorted = new ArrayList<WWidget>();
+		set.sorted(app.domRoot_, app.domRoot2_, sorted);
+		assertEquals(Arrays.<WWidget>asList(orphan, a, d, c), sorted);
+		assertEquals(0, set.getDepth(orphan));
+
+		assertTrue(set.remove(a));
+		assertFalse(set.contains(a));
+		assertEquals(-1, set.getDepth(a));
+
+		// c moves up in the tree after it was added
+		b.removeWidget(c);
+		app.getRoot().addWidget(c);
+		app.getRoot().addWidget(orphan);
+		set.treeChanged();
+
+		sorted.clear();
+		set.sorted(app.domRoot_, app.domRoot2_, sorted);
+		assertEquals(set.getDepth(d), set.getDepth(c));
+		assertEquals(set.getDepth(d), set.getDepth(orphan));
+		assertEquals(3, sorted.size());
+
+		// without reparenting, only the widgets added since are verified
+		WText e = new WText("e");
+		assertTrue(set.add(e));
+		WContainerWidget f = new WContainerWidget(b);
+		f.addWidget(e);
+		sorted.clear();
+		set.sorted(app.domRoot_, app.domRoot2_, sorted);
+		assertEquals(set.getDepth(c) + 3, set.getDepth(e));
+		assertEquals(e, sorted.get(sorted.size() - 1));
+
+		env.close();
+	}
+}
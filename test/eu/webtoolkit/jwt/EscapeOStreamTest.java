@@ -0,0 +1,66 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class EscapeOStreamTest {
+	@Test
+	public void testRuleSets() {
+		assertEquals("a&amp;b&#34;c&lt;d>", escape("a&b\"c<d>", EscapeOStream.RuleSet.HtmlAttribute));
+		assertEquals("a&amp;b\"c&lt;d&gt;<br />", escape("a&b\"c<d>\n", EscapeOStream.RuleSet.PlainTextNewLines));
+		assertEquals("\\'\\\\\\n\\r\\t\"", escape("'\\\n\r\t\"", EscapeOStream.RuleSet.JsStringLiteralSQuote));
+		assertEquals("'\\\"", escape("'\"", EscapeOStream.RuleSet.JsStringLiteralDQuote));
+		assertEquals("caf\u00e9 \u20ac", escape("caf\u00e9 \u20ac", EscapeOStream.RuleSet.Plain));
+	}
+
+	@Test
+	public void testMixedRuleSets() {
+		EscapeOStream out = new EscapeOStream();
+		out.pushEscape(EscapeOStream.RuleSet.JsStringLiteralSQuote);
+		out.pushEscape(EscapeOStream.RuleSet.HtmlAttribute);
+		out.append("<a title=\"it's\">\n");
+		assertEquals("&lt;a title=&#34;it\\'s&#34;>\\n", out.toString());
+
+		out.popEscape();
+		out.append('"').append('\'');
+		assertEquals("&lt;a title=&#34;it\\'s&#34;>\\n\"\\'", out.toString());
+
+		out.popEscape();
+		out.append('\'');
+		assertEquals("&lt;a title=&#34;it\\'s&#34;>\\n\"\\''", out.toString());
+	}
+
+	@Test
+	public void testBulkAppend() {
+		EscapeOStream out = new EscapeOStream();
+		out.pushEscape(EscapeOStream.RuleSet.Plain);
+		out.append(new StringBuilder("xx<b>&</b>xx"), 2, 10);
+		assertEquals("&lt;b&gt;&amp;&lt;/b&gt;", out.toString());
+	}
+
+	@Test
+	public void testPool() {
+		StringBuilder first = new StringBuilder();
+		EscapeOStream out = EscapeOStream.obtain(first);
+		out.pushEscape(EscapeOStream.RuleSet.Plain);
+		out.append("<");
+		out.release();
+
+		StringBuilder second = new StringBuilder();
+		assertSame(out, EscapeOStream.obtain(second));
+		out.append("<");
+		out.release();
+
+		assertEquals("&lt;", first.toString());
+		assertEquals("<", second.toString());
+	}
+
+	private static String escape(String s, EscapeOStream.RuleSet rules) {
+		EscapeOStream out = new EscapeOStream();
+		out.pushEscape(rules);
+		out.append(s);
+		return out.toString();
+	}
+}
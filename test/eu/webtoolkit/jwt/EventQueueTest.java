@@ -0,0 +1,132 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+public class EventQueueTest {
+	private static ApplicationEvent event(String key) {
+		return new ApplicationEvent("session", key, null, null);
+	}
+
+	@Test
+	public void testFifoAndGrowth() {
+		EventQueue queue = new EventQueue(0, Configuration.EventQueueOverflow.Reject);
+		ApplicationEvent[] events = new ApplicationEvent[100];
+		for (int i = 0; i < events.length; ++i) {
+			events[i] = event(null);
+			assertNull(queue.add(events[i]));
+		}
+
+		assertEquals(100, queue.size());
+		for (int i = 0; i < events.length; ++i)
+			assertSame(events[i], queue.poll());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testReject() {
+		EventQueue queue = new EventQueue(2, Configuration.EventQueueOverflow.Reject);
+		ApplicationEvent first = event(null);
+		assertNull(queue.add(first));
+		assertNull(queue.add(event(null)));
+		ApplicationEvent third = event(null);
+		assertSame(third, queue.add(third));
+		assertEquals(2, queue.size());
+		assertSame(first, queue.poll());
+	}
+
+	@Test
+	public void testDropOldest() {
+		EventQueue queue = new EventQueue(2, Configuration.EventQueueOverflow.DropOldest);
+		ApplicationEvent first = event(null);
+		queue.add(first);
+		ApplicationEvent second = event(null);
+		ApplicationEvent third = event(null);
+		queue.add(second);
+		assertSame(first, queue.add(third));
+		assertEquals(2, queue.size());
+		assertSame(second, queue.poll());
+		assertSame(third, queue.poll());
+	}
+
+	@Test
+	public void testCoalesce() {
+		EventQueue queue = new EventQueue(10, Configuration.EventQueueOverflow.Coalesce);
+		queue.add(event("a"));
+		ApplicationEvent b = event("b");
+		queue.add(b);
+		ApplicationEvent a2 = event("a");
+		assertNull(queue.add(a2));
+		assertEquals(2, queue.size());
+		assertSame(a2, queue.poll());
+		assertSame(b, queue.poll());
+	}
+
+	@Test
+	public void testCoalesceAfterGrowth() {
+		EventQueue queue = new EventQueue(0, Configuration.EventQueueOverflow.Coalesce);
+		for (int i = 0; i < 20; ++i)
+			queue.add(event("k" + i));
+		queue.poll();
+
+		ApplicationEvent k5 = event("k5");
+		assertNull(queue.add(k5));
+		assertEquals(19, queue.size());
+
+		// k0 is no longer pending once its event was polled
+		queue.add(event("k0"));
+		assertEquals(20, queue.size());
+
+		for (int i = 1; i < 5; ++i)
+			queue.poll();
+		assertSame(k5, queue.poll());
+	}
+
+	private static ApplicationEvent event(WebSession session, final boolean[] fallBack) {
+		return new ApplicationEvent(session.getSessionId(), null, new Runnable() {
+			@Override
+			public void run() {
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				fallBack[0] = true;
+			}
+		});
+	}
+
+	@Test
+	public void testFallBack() {
+		for (Configuration.EventQueueOverflow overflow : new Configuration.EventQueueOverflow[] {
+				Configuration.EventQueueOverflow.Reject, Configuration.EventQueueOverflow.DropOldest }) {
+			Configuration configuration = new Configuration();
+			configuration.setEventQueueSize(1);
+			configuration.setEventQueueOverflow(overflow);
+			configuration.setPostExecutor(new Executor() {
+				@Override
+				public void execute(Runnable command) {
+					command.run();
+				}
+			});
+			WTestEnvironment env = new WTestEnvironment(configuration);
+			WApplication app = new WApplication(env);
+			WebSession session = app.getSession();
+
+			boolean[] first = { false };
+			boolean[] second = { false };
+			assertTrue(session.queueEvent(event(session, first)));
+			assertEquals(overflow == Configuration.EventQueueOverflow.DropOldest,
+					session.queueEvent(event(session, second)));
+			assertEquals(overflow == Configuration.EventQueueOverflow.DropOldest, first[0]);
+			assertEquals(overflow == Configuration.EventQueueOverflow.Reject, second[0]);
+
+			env.close();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class FileServeTest {
+	private static final String TEMPLATE = "<html>_$_TITLE_$_"
+			+ "_$_$if_A_$_()a_$_$ifnot_B_$_()!b_$_$endif_$_()_$_$endif_$_()"
+			+ "<body>_$_HTML_$_</body>";
+
+	@Test
+	public void testStream() throws IOException {
+		FileServe page = new FileServe(TEMPLATE);
+		page.setVar("TITLE", "t");
+		page.setVar("HTML", "h");
+		page.setCondition("A", true);
+		page.setCondition("B", false);
+
+		StringBuilder out = new StringBuilder();
+		page.stream(out);
+		assertEquals("<html>ta!b<body>h</body>", out.toString());
+
+		page = new FileServe(TEMPLATE);
+		page.setVar("TITLE", "t");
+		page.setCondition("A", false);
+		page.setCondition("B", false);
+
+		out.setLength(0);
+		page.streamUntil(out, "HTML");
+		assertEquals("<html>t<body>", out.toString());
+
+		out.setLength(0);
+		page.stream(out);
+		assertEquals("</body>", out.toString());
+	}
+
+	@Test
+	public void testSkippedRegions() throws IOException {
+		FileServe page = new FileServe(TEMPLATE);
+		page.setVar("HTML", "h");
+		page.setCondition("A", false);
+
+		StringBuilder out = new StringBuilder();
+		page.streamUntil(out, "TITLE");
+		page.stream(out);
+		assertEquals("<html><body>h</body>", out.toString());
+	}
+
+	@Test
+	public void testScriptLibrary() throws IOException {
+		FileServe script = new FileServe(WtServlet.Wt_js);
+		script.setCondition("LIBRARY", false);
+		script.setCondition("SESSION", true);
+		script.setCondition("DYNAMIC_JS", false);
+		script.setCondition("UGLY_INTERNAL_PATHS", false);
+		script.setCondition("CATCH_ERROR", true);
+		script.setCondition("SHOW_ERROR", false);
+		script.setCondition("STRICTLY_SERIALIZED_EVENTS", false);
+		script.setCondition("WEB_SOCKETS", false);
+		for (String var : new String[] { "WT_CLASS", "APP_CLASS", "INNER_HTML", "ACK_UPDATE_ID", "SESSION_URL",
+				"QUITTED_STR", "MAX_FORMDATA_SIZE", "MAX_PENDING_EVENTS", "DEPLOY_PATH", "WS_PATH", "WS_ID",
+				"KEEP_ALIVE", "IDLE_TIMEOUT", "INDICATOR_TIMEOUT", "SERVER_PUSH_TIMEOUT", "CLOSE_CONNECTION",
+				"PARAMS" })
+			script.setVar(var, "1");
+		script.setVar("WT_CLASS", "Wt4_6_1");
+		script.setVar("INNER_HTML", "true");
+		script.setVar("CLOSE_CONNECTION", "false");
+
+		StringBuilder session = new StringBuilder();
+		script.stream(session);
+
+		script = new FileServe(WtServlet.Wt_js);
+		script.setCondition("LIBRARY", true);
+		script.setCondition("SESSION", true);
+		script.setCondition("DYNAMIC_JS", false);
+		script.setCondition("UGLY_INTERNAL_PATHS", false);
+		script.setCondition("CATCH_ERROR", true);
+		script.setCondition("SHOW_ERROR", false);
+		script.setCondition("STRICTLY_SERIALIZED_EVENTS", false);
+		script.setCondition("WEB_SOCKETS", false);
+		for (String var : new String[] { "APP_CLASS", "ACK_UPDATE_ID", "SESSION_URL", "QUITTED_STR",
+				"MAX_FORMDATA_SIZE", "MAX_PENDING_EVENTS", "DEPLOY_PATH", "WS_PATH", "WS_ID", "KEEP_ALIVE",
+				"IDLE_TIMEOUT", "INDICATOR_TIMEOUT", "SERVER_PUSH_TIMEOUT", "PARAMS" })
+			script.setVar(var, "1");
+		script.setVar("WT_CLASS", "Wt4_6_1");
+		script.setVar("INNER_HTML", "true");
+		script.setVar("CLOSE_CONNECTION", "false");
+
+		StringBuilder full = new StringBuilder();
+		script.stream(full);
+
+		String library = WebRenderer.renderScriptLibrary(false, false);
+		assertEquals(full.toString(), library + session);
+		assertTrue(WebRenderer.renderScriptLibrary(false, true).endsWith(library));
+	}
+
+	@Test
+	public void testCompiledOnce() {
+		assertSame(FileServe.compile(WtServlet.Boot_html), FileServe.compile(WtServlet.Boot_html));
+	}
+}
@@ -0,0 +1,74 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+import eu.webtoolkit.jwt.utils.StreamUtils;
+
+public class StaticFileCacheTest {
+	private static final String CSS = ".Wt-item { color: red; }\n.Wt-item { color: red; }\n.Wt-item { color: red; }\n";
+
+	private final StaticFileCache cache = new StaticFileCache(new StaticFileCache.Loader() {
+		@Override
+		public InputStream open(String fileName) throws IOException {
+			if (fileName.equals("form.css"))
+				return new ByteArrayInputStream(CSS.getBytes("UTF-8"));
+			else
+				return null;
+		}
+	});
+
+	@Test
+	public void testEntry() throws IOException {
+		StaticFileCache.Entry entry = cache.get("form.css", "text/css");
+		assertNotNull(entry);
+		assertSame(entry, cache.get("form.css", "text/css"));
+		assertArrayEquals(CSS.getBytes("UTF-8"), entry.content);
+		assertTrue(entry.etag.startsWith("\"") && entry.etag.endsWith("\""));
+		assertEquals(entry.etag.substring(0, entry.etag.length() - 1) + "-gzip\"", entry.gzippedETag);
+
+		assertNotNull(entry.gzipped);
+		ByteArrayOutputStream unzipped = new ByteArrayOutputStream();
+		StreamUtils.copy(new GZIPInputStream(new ByteArrayInputStream(entry.gzipped)), unzipped);
+		assertEquals(CSS, unzipped.toString("UTF-8"));
+
+		assertNull(cache.get("missing.css", "text/css"));
+	}
+
+	@Test
+	public void testVersioned() throws IOException {
+		String version = cache.putVersioned("lib/", CSS.getBytes("UTF-8"), "text/css");
+		assertEquals(16, version.length());
+		assertEquals(version, cache.get("form.css", "text/css").getVersion());
+		assertArrayEquals(CSS.getBytes("UTF-8"), cache.get("lib/" + version, "text/css").content);
+	}
+
+	@Test
+	public void testConditionalHeaders() {
+		assertTrue(StaticFileCache.matches("\"abc\"", "\"abc\""));
+		assertTrue(StaticFileCache.matches("\"x\", W/\"abc\"", "\"abc\""));
+		assertTrue(StaticFileCache.matches("*", "\"abc\""));
+		assertFalse(StaticFileCache.matches("\"x\"", "\"abc\""));
+		assertFalse(StaticFileCache.matches(null, "\"abc\""));
+
+		assertTrue(WebRequest.acceptsGzip("gzip, deflate, br"));
+		assertTrue(WebRequest.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+		assertFalse(WebRequest.acceptsGzip("gzip;q=0, deflate"));
+		assertFalse(WebRequest.acceptsGzip("identity"));
+		assertFalse(WebRequest.acceptsGzip(null));
+	}
+}
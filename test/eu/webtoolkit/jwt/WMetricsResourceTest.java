@@ -0,0 +1,87 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+
+public class WMetricsResourceTest {
+	@Test
+	public void testHistogram() {
+		WMetricsResource.Histogram h = new WMetricsResource.Histogram(new long[] { 10, 100 });
+		h.record(5);
+		h.record(10);
+		h.record(50);
+		h.record(1000);
+
+		assertEquals(4, h.getCount());
+		assertEquals(1065, h.getSum());
+		assertEquals(2, h.getCount(10));
+		assertEquals(3, h.getCount(100));
+	}
+
+	@Test
+	public void testSessionLock() {
+		WMetricsResource metrics = new WMetricsResource();
+		Configuration configuration = new Configuration();
+		configuration.setMetrics(metrics);
+
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		new WApplication(env);
+		env.close();
+
+		assertEquals(1, metrics.getSessionLockWait().getCount());
+		assertEquals(1, metrics.getSessionLockHold().getCount());
+	}
+
+	@Test
+	public void testPushRequested() throws IOException {
+		WMetricsResource metrics = new WMetricsResource();
+		Configuration configuration = new Configuration();
+		configuration.setMetrics(metrics);
+		configuration.setServerPushInterval(1000);
+
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		app.enableUpdates(true);
+		for (int i = 0; i < 10; ++i) {
+			new WText("update " + i, app.getRoot());
+			app.triggerUpdate();
+		}
+		env.close();
+
+		StringWriter out = new StringWriter();
+		metrics.write(out);
+		assertTrue(out.toString().contains("jwt_pushes_total{state=\"requested\"} 10\n"));
+	}
+
+	@Test
+	public void testWrite() throws IOException {
+		WMetricsResource metrics = new WMetricsResource();
+		metrics.sessionCountChanged(3, 2);
+		metrics.responseRendered(WebRequest.ResponseType.Update, 2000000, 5000);
+		metrics.eventQueued(20000, false);
+		metrics.webSocketMessageReceived();
+		metrics.pushRequested();
+		metrics.pushRequested();
+		metrics.pushSent();
+
+		StringWriter out = new StringWriter();
+		metrics.write(out);
+		String text = out.toString();
+
+		assertTrue(text.contains("jwt_sessions{type=\"ajax\"} 2\n"));
+		assertTrue(text.contains("jwt_sessions{type=\"plain\"} 1\n"));
+		assertTrue(text.contains("jwt_render_seconds_bucket{type=\"update\",le=\"0.005\"} 1\n"));
+		assertTrue(text.contains("jwt_response_size_chars_count{type=\"update\"} 1\n"));
+		assertTrue(text.contains("jwt_events_rejected_total 1\n"));
+		assertTrue(text.contains("jwt_pushes_total{state=\"requested\"} 2\n"));
+		assertTrue(text.contains("jwt_pushes_total{state=\"sent\"} 1\n"));
+		assertTrue(text.contains("jwt_websocket_messages_total{direction=\"received\"} 1\n"));
+	}
+}
@@ -0,0 +1,77 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class WPageCacheTest {
+	private static String key(String internalPath, String locale) {
+		return "localhost\0/app\0" + internalPath + "\0" + locale + "\0";
+	}
+
+	@Test
+	public void testEviction() {
+		WPageCache cache = new WPageCache(2, 60000);
+		cache.put(key("/a", "en"), "text/html", "a");
+		cache.put(key("/b", "en"), "text/html", "b");
+		assertEquals("a", cache.get(key("/a", "en")).getContent());
+
+		cache.put(key("/c", "en"), "text/html", "c");
+		assertEquals(2, cache.getSize());
+		assertNotNull(cache.get(key("/a", "en")));
+		assertNull(cache.get(key("/b", "en")));
+		assertNotNull(cache.get(key("/c", "en")));
+	}
+
+	@Test
+	public void testExpiry() {
+		WPageCache cache = new WPageCache(10, 0);
+		cache.put(key("/a", "en"), "text/html", "a");
+		assertNull(cache.get(key("/a", "en")));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testInvalidate() {
+		WPageCache cache = new WPageCache(10, 60000);
+		cache.put(key("/catalogue", "en"), "text/html", "");
+		cache.put(key("/catalogue", "nl"), "text/html", "");
+		cache.put(key("/catalogue/item", "en"), "text/html", "");
+		cache.put(key("/catalogues", "en"), "text/html", "");
+		cache.put(key("/about", "en"), "text/html", "");
+
+		cache.invalidate("/catalogue/");
+		assertEquals(2, cache.getSize());
+		assertNotNull(cache.get(key("/catalogues", "en")));
+
+		cache.invalidateAll();
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testKey() {
+		WTestEnvironment env = new WTestEnvironment(new Configuration());
+		WPageCache cache = new WPageCache(10, 60000) {
+			@Override
+			protected String getCacheKey(WEnvironment env) {
+				return "key";
+			}
+		};
+
+		env.setInternalPath("/about");
+		String about = cache.getKey(env);
+		env.setInternalPath("/");
+		String root = cache.getKey(env);
+
+		assertEquals(root.substring(0, root.lastIndexOf('\0') + 1) + "key", root);
+		cache.put(about, "text/html", "about");
+		cache.put(root, "text/html", "root");
+		cache.invalidate("/about");
+		assertNull(cache.get(about));
+		assertEquals("root", cache.get(root).getContent());
+
+		env.close();
+	}
+}
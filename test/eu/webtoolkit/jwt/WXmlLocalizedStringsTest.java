@@ -36,4 +36,20 @@ public class WXmlLocalizedStringsTest {
 		assertEquals(TextFormat.XHTML, result.format);
 		assertEquals("{1} seconds", result.value);
 	}
+
+	@Test
+	public void hibernateTest() {
+		final WXmlLocalizedStrings strings = new WXmlLocalizedStrings();
+		strings.use("/eu/webtoolkit/jwt/wt");
+
+		final Locale locale = new Locale("");
+		assertEquals("Monday", strings.resolveKey(locale, "Wt.WDate.Monday").value);
+
+		strings.hibernate();
+
+		LocalizedString result = strings.resolveKey(locale, "Wt.WDate.Monday");
+		assertTrue(result.success);
+		assertEquals("Monday", result.value);
+		assertEquals("one second", strings.resolvePluralKey(locale, "Wt.WDateTime.seconds", 1).value);
+	}
 }
@@ -0,0 +1,51 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class WarmUpTest {
+	@SuppressWarnings("serial")
+	private static class Servlet extends WtServlet {
+		final List<String> internalPaths = new ArrayList<String>();
+
+		Servlet(Configuration configuration) {
+			setConfiguration(configuration);
+		}
+
+		@Override
+		public WApplication createApplication(WEnvironment env) {
+			internalPaths.add(env.getInternalPath());
+			WApplication app = new WApplication(env);
+			new WText(WString.tr("Wt.QuittedMessage"), app.getRoot());
+			return app;
+		}
+	}
+
+	@Test
+	public void testWarmUp() {
+		Configuration configuration = new Configuration();
+		configuration.setWarmUpInternalPaths(Arrays.asList("/", "/about"));
+
+		Servlet servlet = new Servlet(configuration);
+		assertEquals(2, new WarmUp(servlet).run());
+		assertEquals(Arrays.asList("/", "/about"), servlet.internalPaths);
+	}
+
+	@Test
+	public void testPreload() {
+		assertTrue(WXmlLocalizedStrings.preload(WtServlet.Wt_xml, Locale.ROOT));
+		assertFalse(WXmlLocalizedStrings.preload("/eu/webtoolkit/jwt/missing", Locale.ROOT));
+
+		WXmlLocalizedStrings strings = new WXmlLocalizedStrings();
+		strings.use(WtServlet.Wt_xml);
+		assertTrue(strings.resolveKey(new Locale("en"), "Wt.QuittedMessage").success);
+	}
+}
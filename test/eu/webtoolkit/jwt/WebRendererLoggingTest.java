@@ -0,0 +1,85 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import eu.webtoolkit.jwt.servlet.WebRequest;
+import eu.webtoolkit.jwt.servlet.WebResponse;
+
+/**
+ * Checks the debug logging of the renderer when debug logging is disabled: a page is served
+ * through {@link WebRenderer#serveResponse(WebResponse)}, and the renderer's state changes do
+ * not allocate.
+ */
+public class WebRendererLoggingTest {
+	private static final int ITERATIONS = 100000;
+
+	@Test
+	public void testStateChangesDoNotAllocate() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		assumeFalse(LoggerFactory.getLogger(WebRenderer.class).isDebugEnabled());
+
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(bean.isThreadAllocatedMemoryEnabled());
+
+		WTestEnvironment env = new WTestEnvironment(new Configuration());
+		WApplication app = new WApplication(env);
+		WebRenderer renderer = app.getSession().getRenderer();
+		long thread = Thread.currentThread().getId();
+
+		for (int i = 0; i < ITERATIONS; ++i) {
+			renderer.setRendered(i % 2 == 0);
+			renderer.setJSSynced(true);
+		}
+
+		long before = bean.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < ITERATIONS; ++i) {
+			renderer.setRendered(i % 2 == 0);
+			renderer.setJSSynced(true);
+		}
+		long allocated = bean.getThreadAllocatedBytes(thread) - before;
+
+		// less than a byte per call: unrelated allocations by the JVM may still be accounted
+		assertEquals(0, allocated / ITERATIONS);
+
+		env.close();
+	}
+
+	@Test
+	public void testServePage() throws Exception {
+		assumeFalse(LoggerFactory.getLogger(WebRenderer.class).isDebugEnabled());
+
+		// a stub response wraps the mock-up response of the servlet API, which is only set by a container
+		Field servletApi = WtServlet.class.getDeclaredField("servletApi");
+		servletApi.setAccessible(true);
+		Object previous = servletApi.get(null);
+		servletApi.set(null, new ServletApi3());
+
+		WTestEnvironment env = new WTestEnvironment(new Configuration());
+		env.setAjax(false);
+		try {
+			WApplication app = new WApplication(env);
+			new WText("Hello", app.getRoot());
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			WebResponse response = new WebResponse(out);
+			response.setResponseType(WebRequest.ResponseType.Page);
+			app.getSession().getRenderer().serveResponse(response);
+			response.flush();
+
+			assertTrue(out.toString("UTF-8").contains("Hello"));
+		} finally {
+			env.close();
+			servletApi.set(null, previous);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WebSessionTest {
+	@Test
+	public void testPushDelay() {
+		long interval = 100;
+		long maxLatency = 250;
+
+		// not throttled: no interval, or nothing was pushed yet
+		assertEquals(0, WebSession.getPushDelay(1000, 990, 1000, 0, maxLatency));
+		assertEquals(0, WebSession.getPushDelay(1000, 0, 1000, interval, maxLatency));
+
+		// throttled until the interval since the last push has passed
+		assertEquals(90, WebSession.getPushDelay(1000, 990, 1000, interval, maxLatency));
+		assertEquals(0, WebSession.getPushDelay(1090, 990, 1000, interval, maxLatency));
+		assertEquals(0, WebSession.getPushDelay(1200, 990, 1000, interval, maxLatency));
+
+		// but never longer than the maximum latency since the first request
+		assertEquals(50, WebSession.getPushDelay(1000, 990, 800, 1000, maxLatency));
+		assertEquals(0, WebSession.getPushDelay(1100, 990, 800, 1000, maxLatency));
+	}
+}
@@ -0,0 +1,20 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WebSocketConnectionTest {
+	@Test
+	public void testPingInterval() {
+		assertEquals(50000, WebSocketConnection.getPingInterval(50000, 50000, 3600000));
+		assertEquals(50000, WebSocketConnection.getPingInterval(50000, 300000, 1000));
+		assertEquals(150000, WebSocketConnection.getPingInterval(50000, 300000, 300000));
+		assertEquals(300000, WebSocketConnection.getPingInterval(50000, 300000, 3600000));
+
+		Configuration configuration = new Configuration();
+		assertEquals(50, configuration.getMaxPingInterval());
+		configuration.setMaxPingInterval(300);
+		assertEquals(300, configuration.getMaxPingInterval());
+	}
+}
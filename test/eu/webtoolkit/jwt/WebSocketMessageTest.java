@@ -0,0 +1,58 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class WebSocketMessageTest {
+	private static ByteBuffer frame(String hex) {
+		byte[] result = new byte[hex.length() / 2];
+		for (int i = 0; i < result.length; ++i)
+			result[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+		return ByteBuffer.wrap(result);
+	}
+
+	@Test
+	public void testDecode() throws IOException {
+		// as encoded by encodeWsFrame() in Wt.js, for:
+		// &pageId=3&signal=s5&e1a0=h%C3%A9%26x&Wt-params=a%3D1&focus=
+		ByteBuffer frame = frame("01067061676549640133067369676e616c02733504653161300568c3a926780957742d706172616d7303613d3105666f63757300");
+
+		Map<String, String[]> parameters = WebSocketMessage.decode(frame, new HashMap<String, String[]>());
+		assertArrayEquals(new String[] { "3" }, parameters.get("pageId"));
+		assertArrayEquals(new String[] { "s5" }, parameters.get("signal"));
+		assertArrayEquals(new String[] { "h\u00e9&x" }, parameters.get("e1a0"));
+		assertArrayEquals(new String[] { "" }, parameters.get("focus"));
+		assertArrayEquals(new String[] { "1" }, parameters.get("a"));
+		assertEquals(6, parameters.size());
+	}
+
+	@Test
+	public void testDirectBuffer() throws IOException {
+		ByteBuffer heap = frame("01067369676e616c0470696e67");
+		ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining());
+		direct.put(heap).flip();
+
+		Map<String, String[]> parameters = WebSocketMessage.decode(direct, new HashMap<String, String[]>());
+		assertArrayEquals(new String[] { "ping" }, parameters.get("signal"));
+	}
+
+	@Test
+	public void testMalformed() {
+		String[] frames = { "02", "0106736967", "01067369676e616c05706e67", "01ffffffffff01" };
+		for (String hex : frames) {
+			try {
+				WebSocketMessage.decode(frame(hex), new HashMap<String, String[]>());
+				fail(hex);
+			} catch (IOException e) {
+			}
+		}
+	}
+}
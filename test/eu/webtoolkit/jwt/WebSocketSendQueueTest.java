@@ -0,0 +1,165 @@
+package eu.webtoolkit.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import org.junit.Test;
+
+public class WebSocketSendQueueTest {
+	private List<String> sent = new ArrayList<String>();
+	private List<SendHandler> inFlight = new ArrayList<SendHandler>();
+	private boolean closed = false;
+
+	private Session createSession() {
+		final Map<String, Object> userProperties = new HashMap<String, Object>();
+		final RemoteEndpoint.Async async = (RemoteEndpoint.Async) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { RemoteEndpoint.Async.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						if (method.getName().equals("sendText")) {
+							sent.add((String) args[0]);
+							inFlight.add((SendHandler) args[1]);
+						}
+						return null;
+					}
+				});
+
+		return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Session.class },
+				new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						if (method.getName().equals("getUserProperties"))
+							return userProperties;
+						else if (method.getName().equals("getAsyncRemote"))
+							return async;
+						else if (method.getName().equals("close"))
+							closed = true;
+						return null;
+					}
+				});
+	}
+
+	private void complete() {
+		inFlight.remove(0).onResult(new SendResult());
+	}
+
+	private WebSocketSendQueue createQueue(WApplication app) {
+		WebSocketSendQueue queue = new WebSocketSendQueue(createSession());
+		queue.setWebSession(app.getSession());
+		return queue;
+	}
+
+	private static String repeat(char c, int count) {
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < count; ++i)
+			result.append(c);
+		return result.toString();
+	}
+
+	@Test
+	public void testQueue() {
+		Configuration configuration = new Configuration();
+		configuration.setWebSocketHighWaterMark(10);
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		WebSocketSendQueue queue = createQueue(app);
+
+		queue.send("aaaaaa");
+		assertEquals(1, sent.size());
+		assertEquals(0, queue.getQueuedLength());
+
+		queue.send("bbbbbb");
+		assertEquals(6, queue.getQueuedLength());
+		assertFalse(queue.isFull());
+
+		queue.send("cccccc");
+		assertEquals(12, queue.getQueuedLength());
+		assertTrue(queue.isFull());
+
+		queue.send("dd");
+		assertEquals(16, queue.getQueuedLength());
+
+		complete();
+		assertEquals("bbbbbb", sent.get(1));
+		assertEquals(10, queue.getQueuedLength());
+		assertTrue(queue.isFull());
+
+		complete();
+		assertEquals("cccccc\n;dd", sent.get(2));
+		assertEquals(0, queue.getQueuedLength());
+		assertFalse(queue.isFull());
+
+		complete();
+		assertEquals(3, sent.size());
+		assertFalse(closed);
+
+		queue.send("e");
+		assertEquals("e", sent.get(3));
+
+		env.close();
+	}
+
+	@Test
+	public void testLargeMessage() {
+		Configuration configuration = new Configuration();
+		configuration.setWebSocketHighWaterMark(10);
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		WebSocketSendQueue queue = createQueue(app);
+
+		queue.send(repeat('a', 30));
+		assertEquals(1, sent.size());
+		assertFalse(queue.isFull());
+
+		queue.send(repeat('b', 30));
+		assertEquals(30, queue.getQueuedLength());
+		assertTrue(queue.isFull());
+		assertFalse(closed);
+
+		complete();
+		assertEquals(repeat('b', 30), sent.get(1));
+		assertFalse(queue.isFull());
+		assertFalse(closed);
+
+		env.close();
+	}
+
+	@Test
+	public void testDrop() {
+		Configuration configuration = new Configuration();
+		configuration.setWebSocketHighWaterMark(10);
+		WTestEnvironment env = new WTestEnvironment(configuration);
+		WApplication app = new WApplication(env);
+		WebSocketSendQueue queue = createQueue(app);
+
+		queue.send("aaaaaaaaaaaa");
+		queue.send("bbbbbbbbbbbb");
+		assertFalse(closed);
+
+		queue.send("cccccccccccc");
+		assertTrue(closed);
+		assertEquals(0, queue.getQueuedLength());
+		assertFalse(queue.isFull());
+
+		complete();
+		queue.send("d");
+		assertEquals(1, sent.size());
+		assertEquals(0, queue.getQueuedLength());
+
+		env.close();
+	}
+}